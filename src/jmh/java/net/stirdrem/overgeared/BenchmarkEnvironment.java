@@ -0,0 +1,60 @@
+package net.stirdrem.overgeared;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.stirdrem.overgeared.config.ServerConfig;
+import net.stirdrem.overgeared.util.QualityHelper;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+/**
+ * Headless setup shared by the benchmarks: vanilla registries through Bootstrap, the server
+ * config at its defaults and a stubbed server-side level. Mod registries aren't loaded, so
+ * synthetic recipes and stacks are built out of vanilla items only.
+ */
+public final class BenchmarkEnvironment {
+    private static boolean initialized = false;
+    private static Level level;
+    private static List<Item> items;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static synchronized void init() {
+        if (initialized) return;
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        CommentedConfig config = CommentedConfig.inMemory();
+        ServerConfig.SERVER_CONFIG.correct(config);
+        ServerConfig.SERVER_CONFIG.acceptConfig(config);
+        QualityHelper.loadConfig();
+
+        // isClientSide is a plain final field, so it reads false on the mock
+        level = Mockito.mock(Level.class);
+        items = BuiltInRegistries.ITEM.stream()
+                .filter(item -> item != Items.AIR)
+                .toList();
+        initialized = true;
+    }
+
+    public static Level level() {
+        init();
+        return level;
+    }
+
+    /**
+     * Every vanilla item except air, in registry order.
+     */
+    public static List<Item> items() {
+        init();
+        return items;
+    }
+}
@@ -0,0 +1,65 @@
+package net.stirdrem.overgeared.block.entity;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.items.ItemStackHandler;
+import net.stirdrem.overgeared.BenchmarkEnvironment;
+import net.stirdrem.overgeared.ForgingQuality;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.recipe.ForgingRecipe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NBT and damage transfer from a full 3x3 anvil grid onto the forged result, with a
+ * growing number of tag entries per ingredient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransferIngredientNbtBenchmark {
+    @Param({"1", "10", "50"})
+    public int tagEntries;
+
+    private ForgingRecipe recipe;
+    private ItemStackHandler grid;
+    private ItemStack result;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.init();
+
+        NonNullList<ForgingRecipe.ForgingIngredient> ingredients = NonNullList.withSize(9,
+                new ForgingRecipe.ForgingIngredient(Ingredient.of(Items.IRON_SWORD), true, true));
+        result = new ItemStack(Items.DIAMOND_SWORD);
+        recipe = new ForgingRecipe(new ResourceLocation(OvergearedMod.MOD_ID, "bench/transfer"), "", false,
+                Set.of(), "stone", ingredients, result, ItemStack.EMPTY,
+                3, true, false, false, false, false, ForgingQuality.POOR, ForgingQuality.NONE, 3, 3);
+
+        grid = new ItemStackHandler(12);
+        for (int slot = 0; slot < 9; slot++) {
+            ItemStack stack = new ItemStack(Items.IRON_SWORD);
+            stack.setDamageValue(slot * 10);
+            CompoundTag tag = stack.getOrCreateTag();
+            tag.putBoolean("Heated", true);
+            tag.putString("ForgingQuality", "well");
+            for (int i = 0; i < tagEntries; i++) {
+                tag.putInt("Entry" + slot + "_" + i, i);
+            }
+            grid.setStackInSlot(slot, stack);
+        }
+    }
+
+    @Benchmark
+    public ItemStack transfer() {
+        ItemStack output = result.copy();
+        AbstractSmithingAnvilBlockEntity.transferIngredientNBT(output, recipe, grid);
+        return output;
+    }
+}
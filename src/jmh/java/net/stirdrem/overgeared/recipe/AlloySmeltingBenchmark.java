@@ -0,0 +1,81 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingBookCategory;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.Level;
+import net.stirdrem.overgeared.BenchmarkEnvironment;
+import net.stirdrem.overgeared.OvergearedMod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shaped alloy smelting lookups, scanning the recipe list the way RecipeManager#getRecipeFor
+ * does. A cold lookup in the smelters costs about this much.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AlloySmeltingBenchmark {
+    @Param({"10", "100", "1000", "5000"})
+    public int recipeCount;
+
+    private Level level;
+    private List<ShapedAlloySmeltingRecipe> recipes;
+    private SimpleContainer hitInputs;
+    private SimpleContainer missInputs;
+
+    @Setup
+    public void setup() {
+        level = BenchmarkEnvironment.level();
+        List<Item> items = BenchmarkEnvironment.items();
+        List<Item> pool = items.subList(1, items.size());
+        Random random = new Random(42);
+
+        recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            NonNullList<Ingredient> pattern = NonNullList.withSize(4, Ingredient.EMPTY);
+            for (int slot = 0; slot < 4; slot++) {
+                pattern.set(slot, Ingredient.of(pool.get(random.nextInt(pool.size()))));
+            }
+            recipes.add(new ShapedAlloySmeltingRecipe(new ResourceLocation(OvergearedMod.MOD_ID, "bench/alloy_" + i),
+                    "", CraftingBookCategory.MISC, pattern, new ItemStack(pool.get(random.nextInt(pool.size()))),
+                    0.1F, 200));
+        }
+
+        hitInputs = new SimpleContainer(4);
+        List<Ingredient> last = recipes.get(recipes.size() - 1).getIngredientsList();
+        for (int slot = 0; slot < 4; slot++) {
+            hitInputs.setItem(slot, last.get(slot).getItems()[0].copy());
+        }
+        missInputs = new SimpleContainer(4);
+        for (int slot = 0; slot < 4; slot++) {
+            missInputs.setItem(slot, new ItemStack(items.get(0)));
+        }
+    }
+
+    @Benchmark
+    public ShapedAlloySmeltingRecipe findHit() {
+        return find(hitInputs);
+    }
+
+    @Benchmark
+    public ShapedAlloySmeltingRecipe findMiss() {
+        return find(missInputs);
+    }
+
+    private ShapedAlloySmeltingRecipe find(SimpleContainer inputs) {
+        for (ShapedAlloySmeltingRecipe recipe : recipes) {
+            if (recipe.matches(inputs, level)) return recipe;
+        }
+        return null;
+    }
+}
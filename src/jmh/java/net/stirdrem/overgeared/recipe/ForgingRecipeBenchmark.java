@@ -0,0 +1,119 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.Level;
+import net.stirdrem.overgeared.BenchmarkEnvironment;
+import net.stirdrem.overgeared.ForgingQuality;
+import net.stirdrem.overgeared.OvergearedMod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forging recipe matching against synthetic recipe sets. The linear scan is the lookup the
+ * index replaced, kept as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForgingRecipeBenchmark {
+    @Param({"10", "100", "1000", "5000"})
+    public int recipeCount;
+
+    private Level level;
+    private List<ForgingRecipe> recipes;
+    private ForgingRecipeIndex index;
+    private ForgingRecipe target;
+    // Grid holding the last recipe's pattern, and one that matches nothing
+    private SimpleContainer hitGrid;
+    private SimpleContainer missGrid;
+
+    @Setup
+    public void setup() {
+        level = BenchmarkEnvironment.level();
+        List<Item> items = BenchmarkEnvironment.items();
+        // The first item is kept out of the recipes so the miss grid never matches
+        List<Item> pool = items.subList(1, items.size());
+        Random random = new Random(42);
+
+        recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            recipes.add(randomRecipe(i, pool, random));
+        }
+        index = new ForgingRecipeIndex(recipes);
+        target = recipes.get(recipes.size() - 1);
+
+        hitGrid = gridFor(target);
+        missGrid = new SimpleContainer(12);
+        missGrid.setItem(4, new ItemStack(items.get(0)));
+    }
+
+    @Benchmark
+    public boolean matchSingle() {
+        return target.matches(hitGrid, level);
+    }
+
+    @Benchmark
+    public Optional<ForgingRecipe> findBestMatchHit() {
+        return index.findBestMatch(hitGrid, level);
+    }
+
+    @Benchmark
+    public Optional<ForgingRecipe> findBestMatchMiss() {
+        return index.findBestMatch(missGrid, level);
+    }
+
+    @Benchmark
+    public Optional<ForgingRecipe> linearScanHit() {
+        ForgingRecipe best = null;
+        for (ForgingRecipe recipe : recipes) {
+            if (recipe.matches(hitGrid, level)
+                    && (best == null || recipe.width * recipe.height > best.width * best.height)) {
+                best = recipe;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static ForgingRecipe randomRecipe(int id, List<Item> pool, Random random) {
+        int width = 1 + random.nextInt(3);
+        int height = 1 + random.nextInt(3);
+
+        NonNullList<ForgingRecipe.ForgingIngredient> ingredients =
+                NonNullList.withSize(width * height, new ForgingRecipe.ForgingIngredient(Ingredient.EMPTY, false, false));
+        for (int cell = 0; cell < ingredients.size(); cell++) {
+            // Leave some cells blank, but never the first so every recipe has an anchor
+            if (cell > 0 && random.nextInt(5) == 0) continue;
+            Item item = pool.get(random.nextInt(pool.size()));
+            ingredients.set(cell, new ForgingRecipe.ForgingIngredient(Ingredient.of(item), false, false));
+        }
+
+        return new ForgingRecipe(new ResourceLocation(OvergearedMod.MOD_ID, "bench/forging_" + id), "", false,
+                Set.of(), "stone", ingredients, new ItemStack(pool.get(random.nextInt(pool.size()))), ItemStack.EMPTY,
+                3, true, false, false, false, false, ForgingQuality.POOR, ForgingQuality.NONE, width, height);
+    }
+
+    private static SimpleContainer gridFor(ForgingRecipe recipe) {
+        SimpleContainer grid = new SimpleContainer(12);
+        List<ForgingRecipe.ForgingIngredient> ingredients = recipe.getForgingIngredients();
+        for (int y = 0; y < recipe.height; y++) {
+            for (int x = 0; x < recipe.width; x++) {
+                Ingredient ingredient = ingredients.get(y * recipe.width + x).ingredient();
+                if (!ingredient.isEmpty()) {
+                    grid.setItem(y * 3 + x, ingredient.getItems()[0].copy());
+                }
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,66 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.stirdrem.overgeared.BenchmarkEnvironment;
+import net.stirdrem.overgeared.OvergearedMod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cooled item lookup behind OvergearedMod#getCooledItem, against a scan over the
+ * cooling recipes as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemConversionBenchmark {
+    @Param({"10", "100", "1000", "5000"})
+    public int recipeCount;
+
+    private List<CoolingRecipe> recipes;
+    private ItemConversionTable table;
+    private Item hitItem;
+    private Item missItem;
+
+    @Setup
+    public void setup() {
+        List<Item> items = BenchmarkEnvironment.items();
+        // Each recipe cools one item into the next, there are fewer vanilla items than recipes at the top end
+        int count = Math.min(recipeCount, items.size() - 2);
+
+        recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recipes.add(new CoolingRecipe(new ResourceLocation(OvergearedMod.MOD_ID, "bench/cooling_" + i),
+                    Ingredient.of(items.get(i)), new ItemStack(items.get(i + 1))));
+        }
+        table = new ItemConversionTable(recipes, CoolingRecipe::getInput, CoolingRecipe::getOutput);
+
+        hitItem = items.get(count - 1);
+        missItem = items.get(items.size() - 1);
+    }
+
+    @Benchmark
+    public Item tableHit() {
+        return table.get(hitItem);
+    }
+
+    @Benchmark
+    public Item tableMiss() {
+        return table.get(missItem);
+    }
+
+    @Benchmark
+    public Item linearScanHit() {
+        ItemStack stack = new ItemStack(hitItem);
+        for (CoolingRecipe recipe : recipes) {
+            if (recipe.getInput().test(stack)) return recipe.getOutput().getItem();
+        }
+        return null;
+    }
+}
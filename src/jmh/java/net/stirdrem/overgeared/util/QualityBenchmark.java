@@ -0,0 +1,52 @@
+package net.stirdrem.overgeared.util;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.stirdrem.overgeared.BenchmarkEnvironment;
+import net.stirdrem.overgeared.ForgingQuality;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quality multiplier and max durability math, run for every getMaxDamage() call through
+ * ItemStackMixin. Mixins aren't applied here, so the durability path calls the helper
+ * the mixin delegates to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QualityBenchmark {
+    private ItemStack[] stacks;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.init();
+
+        ForgingQuality[] qualities = ForgingQuality.values();
+        // One stack per quality, one without quality and one ground down twice
+        stacks = new ItemStack[qualities.length + 2];
+        for (int i = 0; i < qualities.length; i++) {
+            stacks[i] = new ItemStack(Items.IRON_SWORD);
+            stacks[i].getOrCreateTag().putString("ForgingQuality", qualities[i].getDisplayName());
+        }
+        stacks[qualities.length] = new ItemStack(Items.IRON_SWORD);
+        stacks[qualities.length + 1] = new ItemStack(Items.IRON_SWORD);
+        stacks[qualities.length + 1].getOrCreateTag().putInt("ReducedMaxDurability", 2);
+    }
+
+    @Benchmark
+    public void qualityMultiplier(Blackhole blackhole) {
+        for (ItemStack stack : stacks) {
+            blackhole.consume(QualityHelper.getQualityMultiplier(stack));
+        }
+    }
+
+    @Benchmark
+    public void modifiedMaxDamage(Blackhole blackhole) {
+        for (ItemStack stack : stacks) {
+            blackhole.consume(QualityHelper.getModifiedMaxDamage(stack, stack.getItem().getMaxDamage(stack)));
+        }
+    }
+}
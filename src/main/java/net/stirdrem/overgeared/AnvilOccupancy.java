@@ -0,0 +1,152 @@
+package net.stirdrem.overgeared;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Which player is using which anvil, indexed both ways. The server and the client keep
+ * separate instances so an integrated server never shares them with its own client.
+ * Nothing here is saved, entries go away on logout, dimension change, chunk unload or
+ * when the level closes.
+ */
+public final class AnvilOccupancy {
+    private static final AnvilOccupancy SERVER = new AnvilOccupancy();
+    private static final AnvilOccupancy CLIENT = new AnvilOccupancy();
+
+    private final Map<UUID, Occupant> byPlayer = new HashMap<>();
+    private final Map<GlobalPos, UUID> byAnvil = new HashMap<>();
+
+    private AnvilOccupancy() {
+    }
+
+    public static AnvilOccupancy get(Level level) {
+        return get(level.isClientSide());
+    }
+
+    public static AnvilOccupancy get(boolean clientSide) {
+        return clientSide ? CLIENT : SERVER;
+    }
+
+    public static GlobalPos key(Level level, BlockPos pos) {
+        return GlobalPos.of(level.dimension(), pos.immutable());
+    }
+
+    /**
+     * Puts the player at the anvil with the minigame shown. Whatever the player or the anvil
+     * was tied to before is dropped, a player already at this anvil keeps its visibility.
+     */
+    public synchronized void occupy(UUID playerId, GlobalPos anvil) {
+        Occupant current = byPlayer.get(playerId);
+        if (current != null && current.anvil().equals(anvil)) return;
+
+        release(playerId);
+        UUID previous = byAnvil.put(anvil, playerId);
+        if (previous != null) {
+            byPlayer.remove(previous);
+        }
+        byPlayer.put(playerId, new Occupant(anvil, true));
+    }
+
+    public void occupy(UUID playerId, Level level, BlockPos pos) {
+        occupy(playerId, key(level, pos));
+    }
+
+    @Nullable
+    public synchronized GlobalPos getAnvil(UUID playerId) {
+        Occupant occupant = byPlayer.get(playerId);
+        return occupant != null ? occupant.anvil() : null;
+    }
+
+    public synchronized boolean hasAnvil(UUID playerId) {
+        return byPlayer.containsKey(playerId);
+    }
+
+    @Nullable
+    public synchronized UUID getUser(GlobalPos anvil) {
+        return byAnvil.get(anvil);
+    }
+
+    @Nullable
+    public UUID getUser(Level level, BlockPos pos) {
+        return getUser(GlobalPos.of(level.dimension(), pos));
+    }
+
+    public synchronized boolean isUsing(UUID playerId, Level level, BlockPos pos) {
+        return playerId.equals(byAnvil.get(GlobalPos.of(level.dimension(), pos)));
+    }
+
+    /**
+     * True if the player is tied to an anvil and it isn't this one.
+     */
+    public synchronized boolean isUsingOther(UUID playerId, Level level, BlockPos pos) {
+        return byPlayer.containsKey(playerId) && !isUsing(playerId, level, pos);
+    }
+
+    /**
+     * Whether the player's minigame is shown, null while they aren't at any anvil.
+     */
+    @Nullable
+    public synchronized Boolean getVisible(UUID playerId) {
+        Occupant occupant = byPlayer.get(playerId);
+        return occupant != null ? occupant.visible() : null;
+    }
+
+    public synchronized void setVisible(UUID playerId, boolean visible) {
+        byPlayer.computeIfPresent(playerId, (id, occupant) -> new Occupant(occupant.anvil(), visible));
+    }
+
+    /**
+     * Drops the player's anvil, returns it or null if they had none.
+     */
+    @Nullable
+    public synchronized GlobalPos release(UUID playerId) {
+        Occupant occupant = byPlayer.remove(playerId);
+        if (occupant == null) return null;
+        byAnvil.remove(occupant.anvil());
+        return occupant.anvil();
+    }
+
+    /**
+     * Drops the player only if they're at this anvil.
+     */
+    public synchronized boolean release(UUID playerId, GlobalPos anvil) {
+        if (!playerId.equals(byAnvil.get(anvil))) return false;
+        release(playerId);
+        return true;
+    }
+
+    /**
+     * Drops whoever uses the anvil, returns them or null if it was free.
+     */
+    @Nullable
+    public synchronized UUID releaseAnvil(GlobalPos anvil) {
+        UUID playerId = byAnvil.remove(anvil);
+        if (playerId != null) {
+            byPlayer.remove(playerId);
+        }
+        return playerId;
+    }
+
+    public synchronized void releaseDimension(ResourceKey<Level> dimension) {
+        byAnvil.entrySet().removeIf(entry -> {
+            if (entry.getKey().dimension() != dimension) return false;
+            byPlayer.remove(entry.getValue());
+            return true;
+        });
+    }
+
+    public synchronized void clear() {
+        byPlayer.clear();
+        byAnvil.clear();
+    }
+
+    private record Occupant(GlobalPos anvil, boolean visible) {
+    }
+}
@@ -1,5 +1,14 @@
 package net.stirdrem.overgeared;
 
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum ForgingQuality {
     POOR("poor"),
     WELL("well"),
@@ -8,6 +17,16 @@ public enum ForgingQuality {
     MASTER("master"),
     NONE("none");
 
+    public static final String TAG = "ForgingQuality";
+
+    private static final Map<String, ForgingQuality> BY_NAME = new HashMap<>();
+
+    static {
+        for (ForgingQuality quality : values()) {
+            BY_NAME.put(quality.displayName, quality);
+        }
+    }
+
     private final String displayName;
 
     ForgingQuality(String displayName) {
@@ -15,10 +34,30 @@ public enum ForgingQuality {
     }
 
     public static ForgingQuality fromString(String quality) {
-        for (ForgingQuality q : values()) {
-            if (q.displayName.equalsIgnoreCase(quality)) return q;
-        }
-        return POOR; // fallback
+        ForgingQuality q = byName(quality);
+        return q == null ? POOR : q; // fallback
+    }
+
+    /**
+     * Case-insensitive name lookup, null for unknown names.
+     */
+    @Nullable
+    public static ForgingQuality byName(@Nullable String name) {
+        if (name == null) return null;
+        ForgingQuality quality = BY_NAME.get(name);
+        // Names are written lowercase, only hand-edited tags take the slow path
+        return quality != null ? quality : BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Quality stored on the stack, NONE if it has none or an unknown one.
+     */
+    public static ForgingQuality of(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null || !tag.contains(TAG, Tag.TAG_STRING)) return NONE;
+
+        ForgingQuality quality = byName(tag.getString(TAG));
+        return quality == null ? NONE : quality;
     }
 
     public String getDisplayName() {
@@ -0,0 +1,444 @@
+package net.stirdrem.overgeared;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
+import net.stirdrem.overgeared.config.ServerConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State of one forging minigame: the arrow, the hit zones, the hit counts and the quality
+ * they resolve to. The server keeps one session per anvil and player in a shared registry
+ * and is authoritative: the anvil ticks its arrow, strikes are judged against it and the
+ * result is sent to the smith. The client keeps a single session for the local player that
+ * mirrors the server's state and only moves the arrow between syncs.
+ */
+public class ForgingSession {
+    private static final Map<Key, ForgingSession> SESSIONS = new ConcurrentHashMap<>();
+    // Right-clicks repeat every 4 ticks while held, one tick less leaves room for network jitter
+    public static final int STRIKE_COOLDOWN_TICKS = 3;
+    // How far back a strike may be judged, to make up for the smith's latency
+    private static final int ARROW_HISTORY = 20;
+
+    private float arrowPosition = 50;
+    private boolean movingDown = false;
+    private float arrowSpeed = 0;
+    private float maxArrowSpeed = 0;
+    private float speedIncreasePerHit = 0;
+
+    private int perfectZoneStart = 45;
+    private int perfectZoneEnd = 55;
+    private int goodZoneStart = 35;
+    private int goodZoneEnd = 65;
+    private float zoneShrinkFactor = 0.95f;
+    private float minPerfectSize = 4;
+    // Track current sizes independently of the clamped zone bounds
+    private float currentPerfectZoneSize = 0;
+    private float currentGoodZoneSize = 0;
+
+    private int hitsRemaining = 0;
+    private int maxHits = 0;
+    private int perfectHits = 0;
+    private int goodHits = 0;
+    private int missedHits = 0;
+    private String quality = ForgingQuality.NONE.getDisplayName();
+
+    // Arrow position after each of the last ticks, newest at historyHead (server side)
+    private final float[] arrowHistory = new float[ARROW_HISTORY];
+    private int historyHead = 0;
+    private int historySize = 0;
+    private long lastStrikeTick = Long.MIN_VALUE;
+
+    public ForgingSession(String difficulty) {
+        reset(difficulty);
+    }
+
+    // ===============================
+    // Registry (server side)
+    // ===============================
+
+    public static ForgingSession start(Level level, BlockPos anvilPos, UUID playerId, String difficulty, int hits) {
+        ForgingSession session = new ForgingSession(difficulty);
+        session.setHitsRemaining(hits);
+        SESSIONS.put(new Key(GlobalPos.of(level.dimension(), anvilPos.immutable()), playerId), session);
+        return session;
+    }
+
+    @Nullable
+    public static ForgingSession get(Level level, BlockPos anvilPos, @Nullable UUID playerId) {
+        if (playerId == null) return null;
+        return SESSIONS.get(new Key(GlobalPos.of(level.dimension(), anvilPos), playerId));
+    }
+
+    public static void end(Level level, BlockPos anvilPos, UUID playerId) {
+        SESSIONS.remove(new Key(GlobalPos.of(level.dimension(), anvilPos), playerId));
+    }
+
+    public static void endAll(Level level, BlockPos anvilPos) {
+        GlobalPos anvil = GlobalPos.of(level.dimension(), anvilPos);
+        SESSIONS.keySet().removeIf(key -> key.anvil().equals(anvil));
+    }
+
+    public static void endAll(UUID playerId) {
+        SESSIONS.keySet().removeIf(key -> key.player().equals(playerId));
+    }
+
+    public static void clear() {
+        SESSIONS.clear();
+    }
+
+    private record Key(GlobalPos anvil, UUID player) {
+    }
+
+    // ===============================
+    // Minigame state
+    // ===============================
+
+    public void reset(String difficulty) {
+        hitsRemaining = 0;
+        perfectHits = 0;
+        goodHits = 0;
+        missedHits = 0;
+        arrowPosition = 50;
+        movingDown = false;
+        currentPerfectZoneSize = 0;
+        currentGoodZoneSize = 0;
+        quality = ForgingQuality.NONE.getDisplayName();
+        historySize = 0;
+        lastStrikeTick = Long.MIN_VALUE;
+
+        setupForQuality(difficulty); // initialize from blueprint
+        randomizeCenter();
+    }
+
+    private void setupForQuality(String difficulty) {
+        int startingSize;
+        switch (difficulty.toLowerCase()) {
+            case "none" -> {
+                arrowSpeed = ServerConfig.DEFAULT_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.DEFAULT_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.DEFAULT_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.DEFAULT_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.DEFAULT_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.DEFAULT_MIN_PERFECT_ZONE.get();
+            }
+            case "master" -> {
+                arrowSpeed = ServerConfig.MASTER_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.MASTER_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.MASTER_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.MASTER_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.MASTER_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.MASTER_MIN_PERFECT_ZONE.get();
+            }
+            case "perfect" -> {
+                arrowSpeed = ServerConfig.PERFECT_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.PERFECT_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.PERFECT_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.PERFECT_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.PERFECT_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.PERFECT_MIN_PERFECT_ZONE.get();
+            }
+            case "expert" -> {
+                arrowSpeed = ServerConfig.EXPERT_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.EXPERT_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.EXPERT_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.EXPERT_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.EXPERT_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.EXPERT_MIN_PERFECT_ZONE.get();
+            }
+            case "well" -> {
+                arrowSpeed = ServerConfig.WELL_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.WELL_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.WELL_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.WELL_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.WELL_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.WELL_MIN_PERFECT_ZONE.get();
+            }
+            default -> { // poor
+                arrowSpeed = ServerConfig.POOR_ARROW_SPEED.get().floatValue();
+                speedIncreasePerHit = ServerConfig.POOR_ARROW_SPEED_INCREASE.get().floatValue();
+                maxArrowSpeed = ServerConfig.POOR_MAX_ARROW_SPEED.get().floatValue();
+                zoneShrinkFactor = ServerConfig.POOR_ZONE_SHRINK_FACTOR.get().floatValue();
+                startingSize = ServerConfig.POOR_ZONE_STARTING_SIZE.get();
+                minPerfectSize = ServerConfig.POOR_MIN_PERFECT_ZONE.get();
+            }
+        }
+        perfectZoneStart = (100 - startingSize) / 2;
+        perfectZoneEnd = (100 + startingSize) / 2;
+        goodZoneStart = Math.max((100 - startingSize * 3) / 2, 1);
+        goodZoneEnd = Math.min((100 + startingSize * 3) / 2, 100);
+    }
+
+    public void tickArrow() {
+        if (arrowPosition >= 100) {
+            movingDown = true;
+        } else if (arrowPosition <= 1) {
+            movingDown = false;
+        }
+
+        // Determine movement based on current speed and direction
+        float delta = arrowSpeed * (movingDown ? -1 : 1);
+        arrowPosition = Math.max(1, Math.min(arrowPosition + delta, 100));
+
+        historyHead = (historyHead + 1) % ARROW_HISTORY;
+        arrowHistory[historyHead] = arrowPosition;
+        historySize = Math.min(historySize + 1, ARROW_HISTORY);
+    }
+
+    private void speedUp() {
+        arrowSpeed = Math.min(arrowSpeed + speedIncreasePerHit, maxArrowSpeed);
+    }
+
+    /**
+     * Judges a hammer strike against the arrow as it was {@code ticksBack} ticks ago, where the
+     * smith saw it given their latency. Null if it came faster than the hammer cooldown allows,
+     * in which case nothing is recorded.
+     */
+    @Nullable
+    public HitResult tryStrike(long gameTime, int ticksBack) {
+        if (gameTime - lastStrikeTick < STRIKE_COOLDOWN_TICKS) return null;
+        lastStrikeTick = gameTime;
+        return strike(arrowPositionAt(ticksBack));
+    }
+
+    private float arrowPositionAt(int ticksBack) {
+        if (historySize == 0) return arrowPosition;
+        int back = Math.max(0, Math.min(ticksBack, historySize - 1));
+        return arrowHistory[(historyHead - back + ARROW_HISTORY) % ARROW_HISTORY];
+    }
+
+    /**
+     * Judges a hammer strike at {@code position}, then records it and moves the zones.
+     */
+    private HitResult strike(float position) {
+        speedUp();
+
+        HitResult result;
+        if (position >= perfectZoneStart && position <= perfectZoneEnd) {
+            result = HitResult.PERFECT;
+        } else if (position >= goodZoneStart && position <= goodZoneEnd) {
+            result = HitResult.GOOD;
+        } else {
+            result = HitResult.MISSED;
+        }
+
+        shrinkAndShiftZones();
+        recordHit(result);
+        return result;
+    }
+
+    /**
+     * Counts a hit and resolves the final quality once no hits remain.
+     */
+    private void recordHit(HitResult result) {
+        switch (result) {
+            case PERFECT -> perfectHits++;
+            case GOOD -> goodHits++;
+            case MISSED -> missedHits++;
+        }
+        hitsRemaining--;
+        quality = hitsRemaining <= 0 ? resolveQuality() : ForgingQuality.POOR.getDisplayName();
+    }
+
+    private String resolveQuality() {
+        int totalHits = perfectHits + goodHits + missedHits;
+        float qualityScore = 0;
+        if (totalHits > 0)
+            qualityScore = (perfectHits * 1.0f + goodHits * 0.6f) / totalHits;
+        if (qualityScore > ServerConfig.PERFECT_QUALITY_SCORE.get()) return ForgingQuality.PERFECT.getDisplayName();
+        if (qualityScore > ServerConfig.EXPERT_QUALITY_SCORE.get()) return ForgingQuality.EXPERT.getDisplayName();
+        if (qualityScore > ServerConfig.WELL_QUALITY_SCORE.get()) return ForgingQuality.WELL.getDisplayName();
+        return ForgingQuality.POOR.getDisplayName();
+    }
+
+    // Utility clamp
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private void randomizeCenter() {
+        // Randomize zone center directly
+        float randomCenter = 20 + (float) Math.random() * (60); // random between 20 and 80
+        float zoneSize = perfectZoneEnd - perfectZoneStart;
+        float goodZoneSize = goodZoneEnd - goodZoneStart;
+
+        int halfPerfect = (int) (zoneSize / 2f);
+        int halfGood = (int) (goodZoneSize / 2f);
+
+        perfectZoneStart = clamp((int) randomCenter - halfPerfect, 0, 100);
+        perfectZoneEnd = clamp((int) randomCenter + halfPerfect, 0, 100);
+        goodZoneStart = clamp((int) randomCenter - halfGood, 0, 100);
+        goodZoneEnd = clamp((int) randomCenter + halfGood, 0, 100);
+    }
+
+    private void shrinkAndShiftZones() {
+        // Initialize once if not yet done
+        if (currentPerfectZoneSize == 0 || currentGoodZoneSize == 0) {
+            currentPerfectZoneSize = perfectZoneEnd - perfectZoneStart;
+            currentGoodZoneSize = goodZoneEnd - goodZoneStart;
+        }
+
+        // --- Step 1: Shrink zones based on stored sizes ---
+        currentPerfectZoneSize = Math.max(minPerfectSize, currentPerfectZoneSize * zoneShrinkFactor);
+        currentGoodZoneSize = Math.max(currentPerfectZoneSize * 3, currentGoodZoneSize * zoneShrinkFactor);
+
+        // --- Step 2: Get old data for comparison ---
+        float oldPerfectCenter = (perfectZoneStart + perfectZoneEnd) / 2f;
+        float oldGoodCenter = (goodZoneStart + goodZoneEnd) / 2f;
+        int oldPerfectStart = perfectZoneStart;
+        int oldPerfectEnd = perfectZoneEnd;
+        int oldGoodStart = goodZoneStart;
+        int oldGoodEnd = goodZoneEnd;
+
+        // --- Step 3: Attempt to find a new valid zone placement ---
+        int attempts = 0;
+        int newPerfectStart = perfectZoneStart, newPerfectEnd = perfectZoneEnd;
+        int newGoodStart = goodZoneStart, newGoodEnd = goodZoneEnd;
+
+        while (attempts < 30) {
+            attempts++;
+
+            // Weighted random center: bias near middle but allow full range
+            float newCenter = getWeightedRandomCenter(50f);
+
+            // Compute bounds, clamped to 0–100 range
+            int pStart = clamp(Math.round(newCenter - currentPerfectZoneSize / 2), 0, 100);
+            int pEnd = clamp(Math.round(newCenter + currentPerfectZoneSize / 2), 0, 100);
+            int gStart = clamp(Math.round(newCenter - currentGoodZoneSize / 2), 0, 100);
+            int gEnd = clamp(Math.round(newCenter + currentGoodZoneSize / 2), 0, 100);
+
+            float newPerfectCenter = (pStart + pEnd) / 2f;
+            float newGoodCenter = (gStart + gEnd) / 2f;
+
+            // --- Step 4: Check separation conditions ---
+            // Tolerances (in percent of bar width)
+            float minCenterDiff = 5f;   // must move at least this much from previous center
+            float minEdgeDiff = 3f;   // must move edges by at least this much
+
+            boolean perfectTooClose =
+                    Math.abs(newPerfectCenter - oldPerfectCenter) < minCenterDiff ||
+                            Math.abs(pStart - oldPerfectStart) < minEdgeDiff ||
+                            Math.abs(pEnd - oldPerfectEnd) < minEdgeDiff;
+
+            boolean goodTooClose =
+                    Math.abs(newGoodCenter - oldGoodCenter) < minCenterDiff ||
+                            Math.abs(gStart - oldGoodStart) < minEdgeDiff ||
+                            Math.abs(gEnd - oldGoodEnd) < minEdgeDiff;
+
+            // Regenerate if *either* zone is too close
+            if (perfectTooClose || goodTooClose) continue;
+
+            // --- Step 5: Accept the new zones ---
+            newPerfectStart = pStart;
+            newPerfectEnd = pEnd;
+            newGoodStart = gStart;
+            newGoodEnd = gEnd;
+            break;
+        }
+
+        // --- Step 6: Apply the new zones ---
+        perfectZoneStart = newPerfectStart;
+        perfectZoneEnd = newPerfectEnd;
+        goodZoneStart = newGoodStart;
+        goodZoneEnd = newGoodEnd;
+    }
+
+    private static float getWeightedRandomCenter(float bias) {
+        // bias toward middle but allow full 0–100 range
+        float rand = (float) Math.random();
+        float weighted = (float) Math.pow(rand, 1.5); // tweak exponent for more/less bias
+        return bias + (weighted - 0.5f) * 100f;
+    }
+
+    /**
+     * What the client needs to mirror this session: the arrow, the zones and the hit counts.
+     */
+    public CompoundTag saveState() {
+        CompoundTag tag = new CompoundTag();
+        tag.putFloat("arrowPosition", arrowPosition);
+        tag.putBoolean("movingDown", movingDown);
+        tag.putFloat("arrowSpeed", arrowSpeed);
+        tag.putInt("perfectZoneStart", perfectZoneStart);
+        tag.putInt("perfectZoneEnd", perfectZoneEnd);
+        tag.putInt("goodZoneStart", goodZoneStart);
+        tag.putInt("goodZoneEnd", goodZoneEnd);
+        tag.putInt("hitsRemaining", hitsRemaining);
+        tag.putInt("maxHits", maxHits);
+        tag.putInt("perfectHits", perfectHits);
+        tag.putInt("goodHits", goodHits);
+        tag.putInt("missedHits", missedHits);
+        return tag;
+    }
+
+    public void loadState(CompoundTag tag) {
+        arrowPosition = tag.getFloat("arrowPosition");
+        movingDown = tag.getBoolean("movingDown");
+        arrowSpeed = tag.getFloat("arrowSpeed");
+        perfectZoneStart = tag.getInt("perfectZoneStart");
+        perfectZoneEnd = tag.getInt("perfectZoneEnd");
+        goodZoneStart = tag.getInt("goodZoneStart");
+        goodZoneEnd = tag.getInt("goodZoneEnd");
+        hitsRemaining = tag.getInt("hitsRemaining");
+        maxHits = tag.getInt("maxHits");
+        perfectHits = tag.getInt("perfectHits");
+        goodHits = tag.getInt("goodHits");
+        missedHits = tag.getInt("missedHits");
+    }
+
+    public void setHitsRemaining(int hitsRemaining) {
+        this.hitsRemaining = hitsRemaining;
+        this.maxHits = hitsRemaining;
+    }
+
+    public float getArrowPosition() {
+        return arrowPosition;
+    }
+
+    public int getPerfectZoneStart() {
+        return perfectZoneStart;
+    }
+
+    public int getPerfectZoneEnd() {
+        return perfectZoneEnd;
+    }
+
+    public int getGoodZoneStart() {
+        return goodZoneStart;
+    }
+
+    public int getGoodZoneEnd() {
+        return goodZoneEnd;
+    }
+
+    public int getHitsRemaining() {
+        return hitsRemaining;
+    }
+
+    public int getMaxHits() {
+        return maxHits;
+    }
+
+    public int getPerfectHits() {
+        return perfectHits;
+    }
+
+    public int getGoodHits() {
+        return goodHits;
+    }
+
+    public int getMissedHits() {
+        return missedHits;
+    }
+
+    /**
+     * "none" before the first hit, "poor" while hits remain, then the resolved quality.
+     */
+    public String getQuality() {
+        return quality;
+    }
+}
@@ -6,12 +6,9 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.color.item.ItemColor;
 import net.minecraft.client.gui.screens.MenuScreens;
 import net.minecraft.client.renderer.item.ItemProperties;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.TagKey;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.*;
@@ -41,7 +38,6 @@ import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.InterModEnqueueEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
-import net.minecraftforge.registries.ForgeRegistries;
 import net.stirdrem.overgeared.advancement.ModAdvancementTriggers;
 import net.stirdrem.overgeared.block.UpgradeArrowDispenseBehavior;
 import net.stirdrem.overgeared.client.AnvilMinigameOverlay;
@@ -62,6 +58,7 @@ import net.stirdrem.overgeared.config.ClientConfig;
 import net.stirdrem.overgeared.config.ServerConfig;
 //import net.stirdrem.overgeared.core.waterbarrel.BarrelInteraction;
 import net.stirdrem.overgeared.event.ModAttributes;
+import net.stirdrem.overgeared.event.ModEvents;
 import net.stirdrem.overgeared.item.ModCreativeModeTabs;
 import net.stirdrem.overgeared.item.ModItems;
 
@@ -70,13 +67,17 @@ import net.stirdrem.overgeared.item.armor.model.CustomCopperLeggings;
 import net.stirdrem.overgeared.loot.ModLootModifiers;
 import net.stirdrem.overgeared.networking.ModMessages;
 import net.stirdrem.overgeared.recipe.BetterBrewingRecipe;
-import net.stirdrem.overgeared.recipe.CoolingRecipe;
+import net.stirdrem.overgeared.recipe.ItemConversionTable;
 import net.stirdrem.overgeared.recipe.ModRecipeTypes;
 import net.stirdrem.overgeared.recipe.ModRecipes;
 import net.stirdrem.overgeared.screen.*;
 import net.stirdrem.overgeared.sound.ModSounds;
+import net.stirdrem.overgeared.util.ItemBlacklist;
+import net.stirdrem.overgeared.util.MaterialTable;
 import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.util.QualityHelper;
 import net.stirdrem.overgeared.util.TickScheduler;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Unique;
@@ -85,7 +86,6 @@ import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 // The value here should match an entry in the META-INF/mods.toml file
 @Mod(OvergearedMod.MOD_ID)
@@ -158,24 +158,8 @@ public class OvergearedMod {
     public static Item getCooledItem(@Nullable Item heatedItem, @NotNull Level level) {
         if (heatedItem == null || level == null) return null;
 
-        // Wrap the single item in a container for recipe matching
-        SimpleContainer container = new SimpleContainer(new ItemStack(heatedItem));
-
-        // Find the first matching CoolingRecipe
-        Optional<CoolingRecipe> recipeOpt = level.getRecipeManager()
-                .getAllRecipesFor(ModRecipeTypes.COOLING_RECIPE.get())
-                .stream()
-                .filter(r -> r.matches(container, level))
-                .findFirst();
-
-        if (recipeOpt.isEmpty()) {
-            return heatedItem; // no cooling recipe found
-        }
-
-        // Return the result item from the recipe
-        CoolingRecipe recipe = recipeOpt.get();
-        ItemStack result = recipe.getResultItem(level.registryAccess());
-        return result.isEmpty() ? heatedItem : result.getItem();
+        Item cooled = ItemConversionTable.cooling(level.getRecipeManager()).get(heatedItem);
+        return cooled == null ? heatedItem : cooled; // no cooling recipe found
     }
 
     public static void setItemHeated(ItemEntity entity) {
@@ -193,21 +177,8 @@ public class OvergearedMod {
 
     @Unique
     public static boolean isDurabilityBlacklisted(ItemStack stack) {
-        ResourceLocation itemId = ForgeRegistries.ITEMS.getKey(stack.getItem());
-        List<? extends String> blacklist = ServerConfig.BASE_DURABILITY_BLACKLIST.get();
-
-        for (String entry : blacklist) {
-            if (entry.startsWith("#")) {
-                // Handle tag entries like "#forge:tools/hammers"
-                ResourceLocation tagId = ResourceLocation.tryParse(entry.substring(1));
-                TagKey<Item> tag = TagKey.create(Registries.ITEM, tagId);
-                if (stack.is(tag)) return true;
-            } else {
-                // Handle direct item IDs
-                if (itemId != null && itemId.equals(ResourceLocation.tryParse(entry))) return true;
-            }
-        }
-        return DurabilityBlacklistReloadListener.isBlacklisted(stack);
+        return ItemBlacklist.durabilityConfig().contains(stack)
+                || DurabilityBlacklistReloadListener.isBlacklisted(stack);
     }
 
 
@@ -353,58 +324,7 @@ public class OvergearedMod {
         }
         if (event.getTabKey() == CreativeModeTabs.COMBAT) {
             if (ServerConfig.ENABLE_FLETCHING_RECIPES.get()) {
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.LINGERING_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.IRON_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.IRON_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    arrow.getOrCreateTag().putBoolean("LingeringPotion", true);
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.STEEL_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.STEEL_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    arrow.getOrCreateTag().putBoolean("LingeringPotion", true);
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.DIAMOND_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    event.accept(arrow);
-                }
-                for (Potion potion : ForgeRegistries.POTIONS) {
-                    if (potion == Potions.EMPTY) continue;
-
-                    ItemStack arrow = new ItemStack(ModItems.DIAMOND_UPGRADE_ARROW.get());
-                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                    arrow.getOrCreateTag().putBoolean("LingeringPotion", true);
-                    event.accept(arrow);
-                }
+                ModCreativeModeTabs.getCombatTabArrows().forEach(event::accept);
             }
             event.getEntries().putBefore(
                     new ItemStack(Items.IRON_SWORD),           // anchor: Stone Sword
@@ -537,6 +457,11 @@ public class OvergearedMod {
         public static void onConfigLoad(final ModConfigEvent event) {
             if (event.getConfig().getSpec() == ServerConfig.SERVER_CONFIG) {
                 ToolTypeRegistry.init();
+                ItemBlacklist.invalidateConfig();
+                QualityHelper.loadConfig();
+                ModEvents.invalidateAttributeCache();
+                MaterialTable.invalidate();
+                OvergearedPerf.loadConfig();
             }
         }
     }
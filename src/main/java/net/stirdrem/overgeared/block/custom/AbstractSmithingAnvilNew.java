@@ -30,6 +30,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.network.NetworkHooks;
+import net.stirdrem.overgeared.AnvilOccupancy;
 import net.stirdrem.overgeared.AnvilTier;
 import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.config.ServerConfig;
@@ -38,7 +39,6 @@ import net.stirdrem.overgeared.event.ModEvents;
 import net.stirdrem.overgeared.event.ModItemInteractEvents;
 import net.stirdrem.overgeared.networking.ModMessages;
 import net.stirdrem.overgeared.networking.packet.HideMinigameS2CPacket;
-import net.stirdrem.overgeared.networking.packet.PacketSendCounterC2SPacket;
 import net.stirdrem.overgeared.networking.packet.ResetMinigameS2CPacket;
 import net.stirdrem.overgeared.sound.ModSounds;
 import net.stirdrem.overgeared.util.ModTags;
@@ -52,7 +52,6 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
 
     protected static final int HAMMER_SOUND_DURATION_TICKS = 6; // adjust to match your sound
 
-    protected static String quality = null;
     protected static AnvilTier tier;
 
     public AbstractSmithingAnvilNew(AnvilTier anvilTier, Properties properties) {
@@ -60,16 +59,6 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
         tier = anvilTier;
     }
 
-    // In your SmithingAnvil class, ensure getQuality() never returns null:
-    public String getQuality() {
-        // Return current quality or default if null
-        return quality != null ? quality : "none";
-    }
-
-    public static void setQuality(String quality) {
-        AbstractSmithingAnvilNew.quality = quality;
-    }
-
     @Override
     public abstract VoxelShape getShape(BlockState pState, BlockGetter pLevel, BlockPos pPos, CollisionContext pContext);
 
@@ -107,16 +96,11 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
             if (player.isCrouching()) return InteractionResult.SUCCESS;
             if (anvil.hasRecipe() && isHammer) {
                 AnvilMinigameEvents.resetPopUps();
-                if (!pos.equals(AnvilMinigameEvents.getAnvilPos(player.getUUID()))) {
+                if (!AnvilOccupancy.get(level).isUsing(player.getUUID(), level, pos)) {
                     //player.sendSystemMessage(Component.translatable("message.overgeared.another_anvil_in_use").withStyle(ChatFormatting.RED));
                     return InteractionResult.SUCCESS;
                 }
-                if (!AnvilMinigameEvents.isIsVisible()) return InteractionResult.SUCCESS;
-                // Read the current counter at the moment of right-click:
-                String quality = AnvilMinigameEvents.handleHit();
-                ModMessages.sendToServer(new PacketSendCounterC2SPacket(pos, quality));
-                AnvilMinigameEvents.speedUp();
-
+                // During the minigame the server judges the strike against its own arrow and sends the result back
                 return InteractionResult.SUCCESS;
             } else
                 AnvilMinigameEvents.setIsVisible(pos, false);
@@ -159,13 +143,13 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
             }
 
             if (isHammer && (anvil.isMinigameOn() || (!anvil.hasQuality() && !anvil.needsMinigame()) || !ServerConfig.ENABLE_MINIGAME.get())) {
-                BlockPos pos1 = ModItemInteractEvents.playerAnvilPositions.get(player.getUUID());
-                if (pos1 != null && !pos.equals(ModItemInteractEvents.playerAnvilPositions.get(player.getUUID()))) {
+                AnvilOccupancy occupancy = AnvilOccupancy.get(level);
+                if (occupancy.isUsingOther(player.getUUID(), level, pos)) {
                     ServerPlayer serverPlayer = (ServerPlayer) player;
                     serverPlayer.sendSystemMessage(Component.translatable("message.overgeared.another_anvil_in_use").withStyle(ChatFormatting.RED), true);
                     return InteractionResult.FAIL;
                 }
-                Boolean visible = ModItemInteractEvents.playerMinigameVisibility.get(player.getUUID());
+                Boolean visible = occupancy.getVisible(player.getUUID());
 
                 if (visible == null && anvil.isMinigameOn()) {
                     ModItemInteractEvents.hideMinigame((ServerPlayer) player);
@@ -174,6 +158,12 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
                 }
                 if (!ServerConfig.ENABLE_MINIGAME.get())
                     anvil.setBusyUntil(now + HAMMER_SOUND_DURATION_TICKS);
+                // A strike during the minigame only lands if its session takes it
+                if (anvil.isMinigameOn() && ServerConfig.ENABLE_MINIGAME.get()
+                        && (anvil.hasQuality() || anvil.needsMinigame())
+                        && !anvil.strike((ServerPlayer) player)) {
+                    return InteractionResult.CONSUME;
+                }
                 held.hurtAndBreak(1, player, p -> p.broadcastBreakEvent(hand));
                 anvil.increaseForgingProgress(level, pos, state);
                 spawnAnvilParticles(level, pos);
@@ -245,17 +235,12 @@ public abstract class AbstractSmithingAnvilNew extends BaseEntityBlock implement
 
     protected void resetMinigameData(Level level, BlockPos pos) {
         if (!level.isClientSide()) {
-            for (ServerPlayer player : level.getServer().getPlayerList().getPlayers()) {
-                UUID playerId = player.getUUID();
-                if (ModItemInteractEvents.playerAnvilPositions.getOrDefault(playerId, BlockPos.ZERO).equals(pos)) {
-                    // Send reset packet only to this specific player
-                    ModMessages.sendToPlayer(new ResetMinigameS2CPacket(pos), player);
-
-                    // Clear server-side tracking for this player
-                    ModItemInteractEvents.playerAnvilPositions.remove(playerId);
-                    ModItemInteractEvents.playerMinigameVisibility.remove(playerId);
-                    break; // Only reset the first player found (should only be one)
-                }
+            // Clear server-side tracking for whoever used it
+            UUID playerId = AnvilOccupancy.get(level).releaseAnvil(AnvilOccupancy.key(level, pos));
+            ServerPlayer player = playerId != null ? level.getServer().getPlayerList().getPlayer(playerId) : null;
+            if (player != null) {
+                // Send reset packet only to this specific player
+                ModMessages.sendToPlayer(new ResetMinigameS2CPacket(pos), player);
             }
         }
     }
@@ -28,6 +28,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.network.NetworkHooks;
 import net.stirdrem.overgeared.block.entity.AlloySmelterBlockEntity;
 import net.stirdrem.overgeared.block.entity.ModBlockEntities;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.Nullable;
 
 public class AlloySmelterBlock extends BaseEntityBlock {
@@ -113,7 +114,8 @@ public class AlloySmelterBlock extends BaseEntityBlock {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
                                                                   BlockEntityType<T> type) {
         if (level.isClientSide()) return null;
-        return createTickerHelper(type, ModBlockEntities.ALLOY_FURNACE_BE.get(), AlloySmelterBlockEntity::tick);
+        return createTickerHelper(type, ModBlockEntities.ALLOY_FURNACE_BE.get(),
+                OvergearedPerf.timed(OvergearedPerf.Subsystem.ALLOY_SMELTERS, AlloySmelterBlockEntity::tick));
     }
 
     // ----- Visual Effects -----
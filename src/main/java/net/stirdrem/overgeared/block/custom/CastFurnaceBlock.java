@@ -28,6 +28,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.network.NetworkHooks;
 import net.stirdrem.overgeared.block.entity.ModBlockEntities;
 import net.stirdrem.overgeared.block.entity.CastFurnaceBlockEntity;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.Nullable;
 
 public class CastFurnaceBlock extends BaseEntityBlock {
@@ -113,7 +114,8 @@ public class CastFurnaceBlock extends BaseEntityBlock {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
                                                                   BlockEntityType<T> type) {
         if (level.isClientSide()) return null;
-        return createTickerHelper(type, ModBlockEntities.CAST_FURNACE_BE.get(), CastFurnaceBlockEntity::tick);
+        return createTickerHelper(type, ModBlockEntities.CAST_FURNACE_BE.get(),
+                OvergearedPerf.timed(OvergearedPerf.Subsystem.CAST_FURNACES, CastFurnaceBlockEntity::tick));
     }
 
     // ----- Visual Effects -----
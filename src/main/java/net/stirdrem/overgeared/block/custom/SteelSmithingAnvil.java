@@ -25,6 +25,7 @@ import net.stirdrem.overgeared.block.entity.ModBlockEntities;
 import net.stirdrem.overgeared.block.entity.SteelSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.event.AnvilMinigameEvents;
 import net.stirdrem.overgeared.event.ModEvents;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.Nullable;
 
 public class SteelSmithingAnvil extends AbstractSmithingAnvilNew {
@@ -91,8 +92,8 @@ public class SteelSmithingAnvil extends AbstractSmithingAnvilNew {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level pLevel, BlockState pState, BlockEntityType<T> pBlockEntityType) {
         if (!pLevel.isClientSide && pBlockEntityType == ModBlockEntities.STEEL_SMITHING_ANVIL_BE.get()) {
             return createTickerHelper(pBlockEntityType, ModBlockEntities.STEEL_SMITHING_ANVIL_BE.get(),
-                    (pLevel1, pPos, pState1, pBlockEntity) ->
-                            pBlockEntity.tick(pLevel, pPos, pState1));
+                    OvergearedPerf.timed(OvergearedPerf.Subsystem.ANVILS, (pLevel1, pPos, pState1, pBlockEntity) ->
+                            pBlockEntity.tick(pLevel, pPos, pState1)));
         }
         return null;
     }
@@ -29,6 +29,7 @@ import net.stirdrem.overgeared.AnvilTier;
 import net.stirdrem.overgeared.block.entity.ModBlockEntities;
 import net.stirdrem.overgeared.block.entity.StoneSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.config.ServerConfig;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.Nullable;
 
 public class StoneSmithingAnvil extends AbstractSmithingAnvilNew {
@@ -105,8 +106,8 @@ public class StoneSmithingAnvil extends AbstractSmithingAnvilNew {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level pLevel, BlockState pState, BlockEntityType<T> pBlockEntityType) {
         if (!pLevel.isClientSide && pBlockEntityType == ModBlockEntities.STONE_SMITHING_ANVIL_BE.get()) {
             return createTickerHelper(pBlockEntityType, ModBlockEntities.STONE_SMITHING_ANVIL_BE.get(),
-                    (pLevel1, pPos, pState1, pBlockEntity) ->
-                            pBlockEntity.tick(pLevel, pPos, pState1));
+                    OvergearedPerf.timed(OvergearedPerf.Subsystem.ANVILS, (pLevel1, pPos, pState1, pBlockEntity) ->
+                            pBlockEntity.tick(pLevel, pPos, pState1)));
         }
         return null;
     }
@@ -24,6 +24,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.stirdrem.overgeared.AnvilTier;
 import net.stirdrem.overgeared.block.entity.ModBlockEntities;
 import net.stirdrem.overgeared.block.entity.TierASmithingAnvilBlockEntity;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.Nullable;
 
 public class TierASmithingAnvil extends AbstractSmithingAnvilNew {
@@ -90,8 +91,8 @@ public class TierASmithingAnvil extends AbstractSmithingAnvilNew {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level pLevel, BlockState pState, BlockEntityType<T> pBlockEntityType) {
         if (!pLevel.isClientSide && pBlockEntityType == ModBlockEntities.TIER_A_SMITHING_ANVIL_BE.get()) {
             return createTickerHelper(pBlockEntityType, ModBlockEntities.TIER_A_SMITHING_ANVIL_BE.get(),
-                    (pLevel1, pPos, pState1, pBlockEntity) ->
-                            pBlockEntity.tick(pLevel, pPos, pState1));
+                    OvergearedPerf.timed(OvergearedPerf.Subsystem.ANVILS, (pLevel1, pPos, pState1, pBlockEntity) ->
+                            pBlockEntity.tick(pLevel, pPos, pState1)));
         }
         return null;
     }
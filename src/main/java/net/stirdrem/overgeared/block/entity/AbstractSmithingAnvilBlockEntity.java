@@ -3,11 +3,11 @@ package net.stirdrem.overgeared.block.entity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -30,17 +30,28 @@ import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
+import net.stirdrem.overgeared.AnvilOccupancy;
 import net.stirdrem.overgeared.AnvilTier;
 import net.stirdrem.overgeared.BlueprintQuality;
 import net.stirdrem.overgeared.ForgingQuality;
+import net.stirdrem.overgeared.ForgingSession;
+import net.stirdrem.overgeared.HitResult;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.advancement.ModAdvancementTriggers;
 import net.stirdrem.overgeared.block.custom.AbstractSmithingAnvilNew;
+import net.stirdrem.overgeared.block.entity.renderer.AnvilRenderPlan;
 import net.stirdrem.overgeared.config.ServerConfig;
 import net.stirdrem.overgeared.event.ModEvents;
+import net.stirdrem.overgeared.heatedtem.HeatExpiryScheduler;
+import net.stirdrem.overgeared.networking.ModMessages;
+import net.stirdrem.overgeared.networking.packet.AnvilProgressSyncS2CPacket;
+import net.stirdrem.overgeared.networking.packet.MinigameStateS2CPacket;
+import net.stirdrem.overgeared.networking.packet.OnlyResetMinigameS2CPacket;
 
 import net.stirdrem.overgeared.recipe.ForgingRecipe;
+import net.stirdrem.overgeared.recipe.ForgingRecipeIndex;
 import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,18 +59,27 @@ import java.util.*;
 
 import static net.stirdrem.overgeared.OvergearedMod.getCooledItem;
 
-public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity implements MenuProvider {
+public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity implements MenuProvider, HeatExpiryScheduler.Handle {
     protected static final int INPUT_SLOT = 0;
     protected static final int OUTPUT_SLOT = 10;
     protected final ItemStackHandler itemHandler = new ItemStackHandler(12) {
         @Override
         protected void onContentsChanged(int slot) {
             setChanged();
+            renderPlan = null;
             if (!level.isClientSide()) {
-                level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
+                inventoryDirty = true;
+                if (slot < 9) heatDirty = true;
             }
         }
     };
+    // Grid changed since the heated ingredients were last looked at
+    private boolean heatDirty = true;
+    // Tick the HeatExpiryScheduler wakes this anvil on, MAX_VALUE if nothing is heated
+    private long heatScheduledTick = Long.MAX_VALUE;
+    // Client-side layout for the renderer, rebuilt after the inventory changes
+    @Nullable
+    private AnvilRenderPlan renderPlan;
 
 
     protected final ContainerData data;
@@ -104,7 +124,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     protected int hitRemains;
     protected long busyUntilGameTime = 0L;
     protected UUID ownerUUID = null;
-    protected Map<BlockPos, UUID> occupiedAnvils = Collections.synchronizedMap(new HashMap<>());
     protected AnvilTier anvilTier;
     protected long sessionStartTime = 0L; // optional, for timeout logic
     protected ItemStack failedResult;
@@ -112,6 +131,13 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     protected ForgingRecipe lastRecipe = null;
     protected ItemStack lastBlueprint = ItemStack.EMPTY;
     private boolean minigameOn = false;
+    // Client sync is coalesced and flushed at the start of the next tick
+    private boolean inventoryDirty = false;
+    private boolean progressDirty = false;
+    // Snapshot of slots 0-8 and the blueprint slot the cached recipe was resolved against
+    private final SimpleContainer recipeContainer = new SimpleContainer(BLUEPRINT_SLOT + 1);
+    private ForgingRecipeIndex cachedRecipeIndex = null;
+    private Optional<ForgingRecipe> cachedRecipe = Optional.empty();
     protected AbstractSmithingAnvilNew anvilBlock;
     protected static final int BLUEPRINT_SLOT = 11;
 
@@ -154,6 +180,13 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         return itemHandler.getStackInSlot(index);
     }
 
+    public AnvilRenderPlan getRenderPlan() {
+        if (renderPlan == null) {
+            renderPlan = AnvilRenderPlan.build(this);
+        }
+        return renderPlan;
+    }
+
     @Override
     public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
         if (cap == ForgeCapabilities.ITEM_HANDLER) {
@@ -204,19 +237,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
             tag.putUUID("ownerUUID", ownerUUID);
             tag.putLong("sessionStartTime", sessionStartTime);
         }
-
-        // Save occupiedAnvils
-        ListTag occupiedList = new ListTag();
-        for (Map.Entry<BlockPos, UUID> entry : occupiedAnvils.entrySet()) {
-            CompoundTag entryTag = new CompoundTag();
-            BlockPos pos = entry.getKey();
-            entryTag.putInt("x", pos.getX());
-            entryTag.putInt("y", pos.getY());
-            entryTag.putInt("z", pos.getZ());
-            entryTag.putUUID("uuid", entry.getValue());
-            occupiedList.add(entryTag);
-        }
-        tag.put("occupiedAnvils", occupiedList);
     }
 
     @Override
@@ -224,6 +244,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         super.load(tag);
         if (tag.contains("inventory")) {
             itemHandler.deserializeNBT(tag.getCompound("inventory"));
+            renderPlan = null;
         }
         if (tag.contains("hitRemains")) {
             hitRemains = tag.getInt("hitRemains");
@@ -240,20 +261,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         } else {
             ownerUUID = null;
         }
-
-        // Load occupiedAnvils
-        occupiedAnvils.clear();
-        if (tag.contains("occupiedAnvils", CompoundTag.TAG_LIST)) {
-            ListTag occupiedList = tag.getList("occupiedAnvils", CompoundTag.TAG_COMPOUND);
-            for (int i = 0; i < occupiedList.size(); i++) {
-                CompoundTag entryTag = occupiedList.getCompound(i);
-                int x = entryTag.getInt("x");
-                int y = entryTag.getInt("y");
-                int z = entryTag.getInt("z");
-                UUID uuid = entryTag.getUUID("uuid");
-                occupiedAnvils.put(new BlockPos(x, y, z), uuid);
-            }
-        }
     }
 
     public Player getPlayer() {
@@ -303,16 +310,8 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         ForgingQuality maxIngredientQuality = null;
 
         for (int i = 0; i < 9; i++) {
-            ItemStack stack = itemHandler.getStackInSlot(i);
-            if (!stack.hasTag()) continue;
-
-            CompoundTag tag = stack.getTag();
-            if (tag == null || !tag.contains("ForgingQuality", CompoundTag.TAG_STRING)) {
-                continue;
-            }
-
-            ForgingQuality q = ForgingQuality.fromString(tag.getString("ForgingQuality"));
-            if (q == null) continue;
+            ForgingQuality q = ForgingQuality.of(itemHandler.getStackInSlot(i));
+            if (q == ForgingQuality.NONE) continue;
 
             if (maxIngredientQuality == null || q.ordinal() > maxIngredientQuality.ordinal()) {
                 maxIngredientQuality = q;
@@ -383,7 +382,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
             }
         }
 
-        transferIngredientNBT(result, recipe);
+        transferIngredientNBT(result, recipe, itemHandler);
 
 
         for (int i = 0; i < 9; i++) {
@@ -454,7 +453,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                 BlueprintQuality currentQuality = BlueprintQuality.fromString(currentQualityStr);
 
                 // Attempt to read the ForgingQuality from result
-                String forgingQualityStr = anvilBlock.getQuality();
+                String forgingQualityStr = getForgingQuality();
                 ForgingQuality resultQuality = ForgingQuality.fromString(forgingQualityStr);
 
                 if (currentQuality != null && currentQuality != BlueprintQuality.PERFECT && currentQuality != BlueprintQuality.MASTER) {
@@ -495,7 +494,8 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         }
     }
 
-    private void transferIngredientNBT(ItemStack result, ForgingRecipe recipe) {
+    // Static and package-private so the benchmarks can drive it without a block entity
+    static void transferIngredientNBT(ItemStack result, ForgingRecipe recipe, IItemHandler grid) {
         CompoundTag resultTag = result.getOrCreateTag();
 
         List<ForgingRecipe.ForgingIngredient> ingredients =
@@ -510,7 +510,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
 
             if (!forgingIngredient.transferNbt()) continue;
 
-            ItemStack ingredientStack = itemHandler.getStackInSlot(slot);
+            ItemStack ingredientStack = grid.getStackInSlot(slot);
             if (ingredientStack.isEmpty()) continue;
 
             // Damage transfer (lowest)
@@ -615,16 +615,33 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     }
 
     public Optional<ForgingRecipe> getCurrentRecipe() {
-        SimpleContainer inventory = new SimpleContainer(this.itemHandler.getSlots());
-        for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, itemHandler.getStackInSlot(i));
+        if (level == null) return Optional.empty();
+
+        // Only re-resolve when the grid/blueprint changed or recipes were reloaded
+        ForgingRecipeIndex index = ForgingRecipeIndex.get(level.getRecipeManager());
+        boolean inputsChanged = refreshRecipeInputs();
+        if (inputsChanged || index != cachedRecipeIndex) {
+            OvergearedPerf.count(OvergearedPerf.Counter.RECIPE_LOOKUPS);
+            cachedRecipeIndex = index;
+            cachedRecipe = index.findBestMatch(recipeContainer, level);
+        } else {
+            OvergearedPerf.count(OvergearedPerf.Counter.CACHE_HITS);
         }
-        inventory.setItem(11, itemHandler.getStackInSlot(11));
+        return cachedRecipe;
+    }
+
+    private boolean refreshRecipeInputs() {
+        boolean changed = false;
+        for (int i = 0; i < recipeContainer.getContainerSize(); i++) {
+            if (i == OUTPUT_SLOT) continue;
 
-        return ForgingRecipe.findBestMatch(level, inventory)
-                .filter(this::matchesRecipeExactly)
-                //.filter(this::hasEnoughIngredients)
-                ;
+            ItemStack current = itemHandler.getStackInSlot(i);
+            if (!ItemStack.isSameItemSameTags(current, recipeContainer.getItem(i))) {
+                recipeContainer.setItem(i, current.copy());
+                changed = true;
+            }
+        }
+        return changed;
     }
 
     protected boolean canInsertItemIntoOutputSlot(ItemStack stackToInsert) {
@@ -646,7 +663,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         setChanged();
 
         if (level != null && !level.isClientSide) {
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+            progressDirty = true;
         }
 
         if (data != null) {
@@ -668,6 +685,12 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
 
     public void tick(Level lvl, BlockPos pos, BlockState st) {
         if (!pos.equals(this.worldPosition)) return; // sanity check
+        flushSync(lvl);
+        if (minigameOn) {
+            // The server's arrow is the one strikes are judged against
+            ForgingSession session = getSmithSession();
+            if (session != null) session.tickArrow();
+        }
         try {
             // Check if blueprint changed mid-forging
             ItemStack currentBlueprint = this.itemHandler.getStackInSlot(11);
@@ -723,13 +746,36 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
             OvergearedMod.LOGGER.error("Error ticking smithing anvil at {}", pos, e);
             resetProgress(pos);
         }
-        tickHeatedIngredients(lvl);
+        if (heatDirty) {
+            tickHeatedIngredients(lvl);
+        }
     }
 
     public int getHitsRemaining() {
         return hitRemains;
     }
 
+    /**
+     * Sends pending changes to tracking clients: a full block update if the inventory
+     * changed, otherwise only the progress values.
+     */
+    private void flushSync(Level lvl) {
+        if (inventoryDirty) {
+            lvl.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+        } else if (progressDirty) {
+            ModMessages.sendToTrackingChunk(new AnvilProgressSyncS2CPacket(worldPosition, progress, maxProgress, hitRemains),
+                    lvl.getChunkAt(worldPosition));
+        }
+        inventoryDirty = false;
+        progressDirty = false;
+    }
+
+    public void applyProgressSync(int progress, int maxProgress, int hitRemains) {
+        this.progress = progress;
+        this.maxProgress = maxProgress;
+        this.hitRemains = hitRemains;
+    }
+
     // Add this method to ensure data sync
     public ContainerData getContainerData() {
         return data;
@@ -775,52 +821,38 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     }
 
     protected String determineForgingQuality() {
-        String quality = anvilBlock.getQuality();
-        if (quality == null) return "well";
+        ForgingQuality quality = ForgingQuality.byName(getForgingQuality());
+        if (quality == null) return ForgingQuality.WELL.getDisplayName();
         Optional<ForgingRecipe> recipeOptional = getCurrentRecipe();
         ForgingRecipe recipe = recipeOptional.get();
         if (!recipe.getBlueprintTypes().isEmpty()) {
 
             ItemStack blueprint = this.itemHandler.getStackInSlot(BLUEPRINT_SLOT);
-
-            // Define tool quality tiers in order of strength
-            List<String> qualityTiers = List.of("poor", "well", "expert", "perfect", "master");
-
-            // If blueprint is missing or invalid, fallback logic
-            if (blueprint.isEmpty() || !blueprint.hasTag()) {
-                return switch (quality.toLowerCase()) {
-                    case "poor" -> ForgingQuality.POOR.getDisplayName();
-                    default -> "well"; // Cap quality at 'well' without blueprint
-                };
-            }
-
             CompoundTag nbt = blueprint.getTag();
-            if (nbt == null || !nbt.contains("Quality")) {
-                return switch (quality.toLowerCase()) {
-                    case "poor" -> ForgingQuality.POOR.getDisplayName();
-                    default -> "well"; // Cap quality at 'well' without ToolType
-                };
+
+            // If blueprint is missing or invalid, cap quality at 'well'
+            if (blueprint.isEmpty() || nbt == null || !nbt.contains("Quality")) {
+                return quality == ForgingQuality.POOR
+                        ? ForgingQuality.POOR.getDisplayName()
+                        : ForgingQuality.WELL.getDisplayName();
             }
 
-            String blueprintToolType = nbt.getString("Quality").toLowerCase();
-
-            // Determine capped quality
-            int anvilTierIndex = qualityTiers.indexOf(quality.toLowerCase());
-            int blueprintTierIndex = qualityTiers.indexOf(blueprintToolType);
+            ForgingQuality blueprintQuality = ForgingQuality.byName(nbt.getString("Quality"));
 
             // Default to lowest if any tier is missing
-            if (anvilTierIndex == -1 || blueprintTierIndex == -1) {
+            if (quality == ForgingQuality.NONE || blueprintQuality == null || blueprintQuality == ForgingQuality.NONE) {
                 return ForgingQuality.NONE.getDisplayName();
             }
 
-            int finalIndex = Math.min(anvilTierIndex, blueprintTierIndex);
+            // Determine capped quality
+            ForgingQuality capped = quality.ordinal() <= blueprintQuality.ordinal() ? quality : blueprintQuality;
 
-            switch (qualityTiers.get(finalIndex)) {
-                case "poor":
+            switch (capped) {
+                case POOR:
                     return ForgingQuality.POOR.getDisplayName();
-                case "expert":
+                case EXPERT:
                     return ForgingQuality.EXPERT.getDisplayName();
-                case "perfect": {
+                case PERFECT: {
                     Random random = new Random();
 
                     // 🔹 Check if any crafting slot contains a Master-quality ingredient
@@ -828,12 +860,9 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                     for (int i = 0; i < this.itemHandler.getSlots(); i++) {
                         if (i == OUTPUT_SLOT || i == BLUEPRINT_SLOT) continue; // skip output + blueprint
                         ItemStack stack = this.itemHandler.getStackInSlot(i);
-                        if (!stack.isEmpty() && stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-                            String ingQuality = stack.getTag().getString("ForgingQuality").toLowerCase();
-                            if ("master".equals(ingQuality)) {
-                                hasMasterIngredient = true;
-                                break;
-                            }
+                        if (ForgingQuality.of(stack) == ForgingQuality.MASTER) {
+                            hasMasterIngredient = true;
+                            break;
                         }
                     }
 
@@ -845,19 +874,19 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                     boolean ingredientMasterRoll = hasMasterIngredient
                             && random.nextFloat() < ServerConfig.MASTER_FROM_INGREDIENT_CHANCE.get();
 
-                    if ("master".equals(blueprintToolType) || masterRoll || ingredientMasterRoll) {
+                    if (blueprintQuality == ForgingQuality.MASTER || masterRoll || ingredientMasterRoll) {
                         return ForgingQuality.MASTER.getDisplayName();
                     } else {
                         return ForgingQuality.PERFECT.getDisplayName();
                     }
                 }
-                case "master":
+                case MASTER:
                     return ForgingQuality.MASTER.getDisplayName();
                 default:
                     return ForgingQuality.WELL.getDisplayName();
             }
         }
-        return quality;
+        return quality.getDisplayName();
     }
 
     public String minigameQuality() {
@@ -875,7 +904,7 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     }
 
     public String blueprintQuality() {
-        String quality = anvilBlock.getQuality();
+        String quality = getForgingQuality();
         if (quality == null) {
             return ForgingQuality.NONE.getDisplayName(); // fallback when global quality is missing
         }
@@ -891,9 +920,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                 return recipe.getQualityDifficulty().getDisplayName();
             ItemStack blueprint = this.itemHandler.getStackInSlot(BLUEPRINT_SLOT);
 
-            // Quality tiers in order
-            List<String> qualityTiers = List.of("poor", "well", "expert", "perfect", "master");
-
             // Missing or invalid blueprint → cap quality
             String poor = quality.equalsIgnoreCase("poor")
                     ? ForgingQuality.POOR.getDisplayName()
@@ -907,9 +933,9 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                 return poor;
             }
 
-            String bpQuality = nbt.getString("Quality").toLowerCase();
+            ForgingQuality bpQuality = ForgingQuality.byName(nbt.getString("Quality"));
             // ensure it’s in our tier list, otherwise default
-            return qualityTiers.contains(bpQuality) ? bpQuality : ForgingQuality.NONE.getDisplayName();
+            return bpQuality != null ? bpQuality.getDisplayName() : ForgingQuality.NONE.getDisplayName();
         }
 
         return ForgingQuality.NONE.getDisplayName(); // fallback if no blueprint types
@@ -919,9 +945,9 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         this.progress = progress;
         this.setChanged();
 
-        // Force sync to client
+        // Sync to client
         if (level != null && !level.isClientSide()) {
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+            progressDirty = true;
         }
 
         if (this.data != null) {
@@ -946,18 +972,52 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
     @Override
     public void onChunkUnloaded() {
         super.onChunkUnloaded();
+        if (level == null) return;
         // Ensure any players are reset
-        /*ServerPlayer user = ModItemInteractEvents.getUsingPlayer(getBlockPos());
-        if (user != null) {
-            user.getCapability(AnvilMinigameProvider.ANVIL_MINIGAME).ifPresent(minigame -> {
-                //minigame.resetNBTData();
-                minigame.reset(user);
-                //minigame.setIsVisible(false, user);
-                progress = 0;
-                ModItemInteractEvents.releaseAnvil(user, getBlockPos());
-                //ModMessages.sendToPlayer(new MinigameSyncS2CPacket(new CompoundTag().putBoolean("isVisible", false)), user);
-            });
-        }*/
+        UUID user = AnvilOccupancy.get(level).releaseAnvil(AnvilOccupancy.key(level, worldPosition));
+        if (user != null && !level.isClientSide()) {
+            ForgingSession.endAll(level, worldPosition);
+            ServerPlayer userPlayer = level.getServer().getPlayerList().getPlayer(user);
+            if (userPlayer != null) {
+                ModMessages.sendToPlayer(new OnlyResetMinigameS2CPacket(), userPlayer);
+            }
+        }
+    }
+
+    /**
+     * Quality resolved by the owner's minigame session at this anvil, "none" without one.
+     */
+    protected String getForgingQuality() {
+        ForgingSession session = getSmithSession();
+        return session != null ? session.getQuality() : ForgingQuality.NONE.getDisplayName();
+    }
+
+    @Nullable
+    private ForgingSession getSmithSession() {
+        if (level == null) return null;
+        UUID smith = ownerUUID != null ? ownerUUID : player != null ? player.getUUID() : null;
+        return ForgingSession.get(level, worldPosition, smith);
+    }
+
+    /**
+     * Judges a minigame strike by {@code smith} in their session here, starting one if they own
+     * the anvil, and sends them the result. False if it came faster than the hammer cooldown,
+     * so it shouldn't count as a hit at all.
+     */
+    public boolean strike(ServerPlayer smith) {
+        ForgingSession session = ForgingSession.get(level, worldPosition, smith.getUUID());
+        if (session == null) {
+            if (!isOwnedBy(smith)) return true;
+            session = ForgingSession.start(level, worldPosition, smith.getUUID(),
+                    minigameQuality(), getRequiredProgress());
+        }
+
+        // The smith saw the arrow about one round trip ago
+        HitResult result = session.tryStrike(level.getGameTime(), Math.round(smith.latency / 50f));
+        if (result == null) return false;
+
+        ModMessages.sendToPlayer(new MinigameStateS2CPacket(session, result), smith);
+        return true;
     }
 
     public void setOwner(UUID uuid) {
@@ -980,14 +1040,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         return ownerUUID != null;
     }
 
-    public UUID getOccupiedAnvil(BlockPos pos) {
-        return occupiedAnvils.get(pos);
-    }
-
-    public void putOccupiedAnvil(BlockPos pos, UUID me) {
-        occupiedAnvils.put(pos, me);
-    }
-
     public boolean hasQuality() {
         Optional<ForgingRecipe> recipeOptional = getCurrentRecipe();
         if (recipeOptional.isEmpty()) return false;
@@ -1012,16 +1064,6 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
         return itemHandler;
     }
 
-    public BlockPos getPos(ServerPlayer serverPlayer) {
-        UUID playerUUID = serverPlayer.getUUID();
-        for (Map.Entry<BlockPos, UUID> entry : occupiedAnvils.entrySet()) {
-            if (entry.getValue().equals(playerUUID)) {
-                return entry.getKey();
-            }
-        }
-        return null; // Not found
-    }
-
     public UUID getOwnerUUID() {
         return ownerUUID;
     }
@@ -1037,10 +1079,29 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
 
     private static final String HEATED_TIME_TAG = "HeatedSince";
 
+    @Override
+    public void onHeatExpired(ServerLevel level, long tick) {
+        if (isRemoved() || level != this.level) return;
+        if (tick < heatScheduledTick) return; // Superseded by an earlier wake-up that already ran
+
+        heatScheduledTick = Long.MAX_VALUE;
+        heatDirty = true;
+        tickHeatedIngredients(level);
+    }
+
+    /**
+     * Starts the cooldown of newly placed heated ingredients, cools the ones that are due
+     * and schedules a wake-up for the next one. Only runs after the grid changed or when
+     * the HeatExpiryScheduler fires, not every tick.
+     */
     public void tickHeatedIngredients(Level level) {
-        if (level.isClientSide) return;
+        if (!(level instanceof ServerLevel serverLevel)) return;
+        // Still dirty, so it's picked up again next tick; a late conversion by a tick or two isn't noticeable
+        if (OvergearedPerf.shouldDefer()) return;
+        heatDirty = false;
         long tick = level.getGameTime();
         int cooldownTicks = ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get();
+        long nextExpiry = Long.MAX_VALUE;
 
         for (int slot = 0; slot < 9; slot++) {
             ItemStack stack = itemHandler.getStackInSlot(slot);
@@ -1053,11 +1114,14 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
             // Initialize timestamp if not present
             if (heatedSince == 0L) {
                 tag.putLong(HEATED_TIME_TAG, tick);
+                nextExpiry = Math.min(nextExpiry, tick + cooldownTicks);
                 continue;
             }
 
             // Cooldown complete → convert to cooled version
-            if (tick - heatedSince >= cooldownTicks) {
+            if (tick - heatedSince < cooldownTicks) {
+                nextExpiry = Math.min(nextExpiry, heatedSince + cooldownTicks);
+            } else {
                 Item cooled = getCooledItem(stack.getItem(), level);
                 if (cooled != null) {
                     ItemStack newStack = new ItemStack(cooled, stack.getCount());
@@ -1079,10 +1143,16 @@ public abstract class AbstractSmithingAnvilBlockEntity extends BlockEntity imple
                             1.0F,                              // volume
                             1.0F                               // pitch
                     );
-                    itemHandler.setStackInSlot(slot, newStack);
-                    level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+                    itemHandler.setStackInSlot(slot, newStack); // marks the inventory for sync
+                    OvergearedPerf.count(OvergearedPerf.Counter.COOLING_CONVERSIONS);
                 }
             }
         }
+
+        // Wake up earlier if needed, a later pending wake-up just finds nothing due
+        if (nextExpiry < heatScheduledTick) {
+            heatScheduledTick = nextExpiry;
+            HeatExpiryScheduler.schedule(serverLevel, nextExpiry, this);
+        }
     }
 }
@@ -31,6 +31,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.SidedInvWrapper;
 import net.stirdrem.overgeared.block.entity.ModBlockEntities;
 import net.stirdrem.overgeared.recipe.AlloySmeltingRecipe;
+import net.stirdrem.overgeared.recipe.IAlloyRecipe;
 import net.stirdrem.overgeared.recipe.ShapedAlloySmeltingRecipe;
 import net.stirdrem.overgeared.screen.AlloySmelterMenu;
 import org.jetbrains.annotations.NotNull;
@@ -56,6 +57,11 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
     private int cookTimeTotal;
     private float storedExperience = 0.0F;
 
+    private final MachineRecipeCache<IAlloyRecipe> recipeCache =
+            new MachineRecipeCache<>(inputSlots(), AlloySmelterBlockEntity::findRecipe);
+    // Unlit with nothing to smelt or burn, skips ticking until the inventory changes
+    private boolean sleeping = false;
+
     public AlloySmelterBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.ALLOY_FURNACE_BE.get(), pos, state);
 
@@ -89,14 +95,19 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
     // Tick logic
     // --------------------------------------------------
     public static void tick(Level level, BlockPos pos, BlockState state, AlloySmelterBlockEntity be) {
+        // The input check also catches stacks edited in place, which don't call setChanged()
+        if (be.sleeping && !be.recipeCache.hasChanged(level, be.itemHandler)) return;
+        be.sleeping = false;
+
         boolean wasLit = be.burnTime > 0;
         boolean dirty = false;
 
         if (be.burnTime > 0) be.burnTime--;
 
         ItemStack fuel = be.itemHandler.getStackInSlot(4);
+        boolean canSmelt = be.canSmelt();
 
-        if (be.burnTime == 0 && be.canSmelt()) {
+        if (be.burnTime == 0 && canSmelt) {
             be.maxBurnTime = be.burnTime = ForgeHooks.getBurnTime(fuel, RecipeType.SMELTING);
             if (be.burnTime > 0 && !fuel.isEmpty()) {
                 Item fuelContainer = fuel.getItem().getCraftingRemainingItem();
@@ -107,14 +118,14 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
             }
         }
 
-        if (be.isLit() && be.canSmelt()) {
+        if (be.isLit() && canSmelt) {
             be.cookTime++;
             if (be.cookTime >= be.cookTimeTotal) {
                 be.cookTime = 0;
                 be.smelt();
                 dirty = true;
             }
-        } else if (!be.canSmelt()) {
+        } else if (!canSmelt) {
             be.cookTime = 0;
         }
 
@@ -125,6 +136,15 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
         }
 
         if (dirty) be.setChanged();
+
+        // Still unlit here means there was no recipe, no room for the result or no fuel
+        be.sleeping = !be.isLit();
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        sleeping = false;
     }
 
     // --------------------------------------------------
@@ -158,56 +178,44 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
     // --------------------------------------------------
     // Smelting logic
     // --------------------------------------------------
-    private boolean canSmelt() {
-        SimpleContainer inv = new SimpleContainer(4);
-        for (int i = 0; i < 4; i++) inv.setItem(i, itemHandler.getStackInSlot(i));
+    private static int[] inputSlots() {
+        int[] slots = new int[4];
+        for (int i = 0; i < slots.length; i++) slots[i] = i;
+        return slots;
+    }
 
+    private static Optional<IAlloyRecipe> findRecipe(Level level, SimpleContainer inv) {
         // Try shapeless recipe first
-        Optional<AlloySmeltingRecipe> shapelessRecipe =
-                level.getRecipeManager().getRecipeFor(AlloySmeltingRecipe.Type.INSTANCE, inv, level);
+        Optional<IAlloyRecipe> shapelessRecipe = level.getRecipeManager()
+                .getRecipeFor(AlloySmeltingRecipe.Type.INSTANCE, inv, level).map(IAlloyRecipe.class::cast);
+        if (shapelessRecipe.isPresent()) return shapelessRecipe;
 
         // Try shaped recipe if shapeless not found
-        Optional<ShapedAlloySmeltingRecipe> shapedRecipe =
-                level.getRecipeManager().getRecipeFor(ShapedAlloySmeltingRecipe.Type.INSTANCE, inv, level);
-
-        if (shapelessRecipe.isEmpty() && shapedRecipe.isEmpty()) return false;
+        return level.getRecipeManager()
+                .getRecipeFor(ShapedAlloySmeltingRecipe.Type.INSTANCE, inv, level).map(IAlloyRecipe.class::cast);
+    }
 
-        cookTimeTotal = shapelessRecipe.map(AlloySmeltingRecipe::getCookingTime)
-                .orElseGet(() -> shapedRecipe.get().getCookingTime());
+    private boolean canSmelt() {
+        recipeCache.update(level, itemHandler);
+        IAlloyRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null) return false;
 
-        ItemStack result = shapelessRecipe.map(r -> r.getResultItem(level.registryAccess()))
-                .orElseGet(() -> shapedRecipe.get().getResultItem(level.registryAccess()));
+        cookTimeTotal = recipe.getCookingTime();
 
+        ItemStack result = recipe.getResultItem(level.registryAccess());
         ItemStack output = itemHandler.getStackInSlot(5);
         return !result.isEmpty() &&
                 (output.isEmpty() || (output.is(result.getItem()) &&
                         output.getCount() + result.getCount() <= output.getMaxStackSize()));
     }
 
-
+    // Only called after canSmelt() passed this tick, so the cached recipe is current
     private void smelt() {
-        if (!canSmelt()) return;
+        IAlloyRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null) return;
 
-        SimpleContainer inv = new SimpleContainer(4);
-        for (int i = 0; i < 4; i++) inv.setItem(i, itemHandler.getStackInSlot(i));
-
-        Optional<AlloySmeltingRecipe> shapelessRecipe =
-                level.getRecipeManager().getRecipeFor(AlloySmeltingRecipe.Type.INSTANCE, inv, level);
-        Optional<ShapedAlloySmeltingRecipe> shapedRecipe =
-                level.getRecipeManager().getRecipeFor(ShapedAlloySmeltingRecipe.Type.INSTANCE, inv, level);
-
-        ItemStack result;
-        float xp;
-
-        if (shapelessRecipe.isPresent()) {
-            AlloySmeltingRecipe recipe = shapelessRecipe.get();
-            result = recipe.getResultItem(level.registryAccess());
-            xp = recipe.getExperience();
-        } else if (shapedRecipe.isPresent()) {
-            ShapedAlloySmeltingRecipe recipe = shapedRecipe.get();
-            result = recipe.getResultItem(level.registryAccess());
-            xp = recipe.getExperience();
-        } else return;
+        ItemStack result = recipe.getResultItem(level.registryAccess());
+        float xp = recipe.getExperience();
 
         ItemStack output = itemHandler.getStackInSlot(5);
         if (output.isEmpty()) {
@@ -226,7 +234,6 @@ public class AlloySmelterBlockEntity extends BaseContainerBlockEntity implements
         }
     }
 
-
     // --------------------------------------------------
     // Experience logic (vanilla accurate)
     // --------------------------------------------------
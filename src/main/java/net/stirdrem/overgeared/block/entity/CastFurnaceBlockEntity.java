@@ -40,7 +40,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
-import java.util.Optional;
 
 public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements WorldlyContainer, MenuProvider {
 
@@ -66,6 +65,14 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
     private int cookTimeTotal;
     private float storedExperience;
 
+    private final MachineRecipeCache<CastingRecipe> recipeCache = new MachineRecipeCache<>(
+            new int[]{SLOT_INPUT, SLOT_CAST},
+            (level, inv) -> level.getRecipeManager().getRecipeFor(ModRecipeTypes.CASTING.get(), inv, level));
+    // Result with the cast's quality applied, rebuilt only when the inputs change
+    private ItemStack previewOutput = ItemStack.EMPTY;
+    // Unlit with nothing to smelt or burn, skips ticking until the inventory changes
+    private boolean sleeping = false;
+
     private final ContainerData data = new ContainerData() {
         @Override
         public int get(int index) {
@@ -99,14 +106,19 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
     }
 
     public static void tick(Level level, BlockPos pos, BlockState state, CastFurnaceBlockEntity be) {
+        // The input check also catches stacks edited in place, which don't call setChanged()
+        if (be.sleeping && !be.recipeCache.hasChanged(level, be.itemHandler)) return;
+        be.sleeping = false;
+
         boolean wasLit = be.isLit();
         boolean dirty = false;
 
         if (be.burnTime > 0) be.burnTime--;
 
         ItemStack fuel = be.itemHandler.getStackInSlot(SLOT_FUEL);
+        boolean canSmelt = be.canSmelt();
 
-        if (be.burnTime == 0 && be.canSmelt()) {
+        if (be.burnTime == 0 && canSmelt) {
             be.maxBurnTime = be.burnTime = ForgeHooks.getBurnTime(fuel, RecipeType.SMELTING);
             if (be.burnTime > 0 && !fuel.isEmpty()) {
                 Item remainder = fuel.getItem().getCraftingRemainingItem();
@@ -117,14 +129,14 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
             }
         }
 
-        if (be.isLit() && be.canSmelt()) {
+        if (be.isLit() && canSmelt) {
             be.cookTime++;
             if (be.cookTime >= be.cookTimeTotal) {
                 be.cookTime = 0;
                 be.smelt();
                 dirty = true;
             }
-        } else if (!be.canSmelt()) {
+        } else if (!canSmelt) {
             be.cookTime = 0;
         }
 
@@ -134,6 +146,15 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
         }
 
         if (dirty) be.setChanged();
+
+        // Still unlit here means there was no recipe, no room for the result or no fuel
+        be.sleeping = !be.isLit();
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        sleeping = false;
     }
 
 
@@ -144,19 +165,13 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
     private boolean canSmelt() {
         if (level == null) return false;
 
-        SimpleContainer inv = new SimpleContainer(2);
-        inv.setItem(0, itemHandler.getStackInSlot(SLOT_INPUT));
-        inv.setItem(1, itemHandler.getStackInSlot(SLOT_CAST));
-
-        Optional<CastingRecipe> recipeOpt =
-                level.getRecipeManager().getRecipeFor(ModRecipeTypes.CASTING.get(), inv, level);
-
-        if (recipeOpt.isEmpty()) return false;
-
-        CastingRecipe recipe = recipeOpt.get();
+        if (recipeCache.update(level, itemHandler)) {
+            CastingRecipe recipe = recipeCache.getRecipe();
+            previewOutput = recipe == null ? ItemStack.EMPTY : buildResultStack(recipe);
+        }
 
-        ItemStack previewOutput = buildResultStack(recipe);
-        if (previewOutput.isEmpty()) return false;
+        CastingRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null || previewOutput.isEmpty()) return false;
 
         ItemStack outputSlot = itemHandler.getStackInSlot(SLOT_OUTPUT);
 
@@ -208,22 +223,14 @@ public class CastFurnaceBlockEntity extends BaseContainerBlockEntity implements
         return output;
     }
 
+    // Only called after canSmelt() passed this tick, so the cached recipe is current
     private void smelt() {
-        if (!canSmelt()) return;
+        CastingRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null) return;
 
-        SimpleContainer inv = new SimpleContainer(2);
-        inv.setItem(0, itemHandler.getStackInSlot(SLOT_INPUT));
-        inv.setItem(1, itemHandler.getStackInSlot(SLOT_CAST));
         ItemStack cast = itemHandler.getStackInSlot(SLOT_CAST);
         CompoundTag castTag = cast.getOrCreateTag();
 
-        CastingRecipe recipe =
-                level.getRecipeManager()
-                        .getRecipeFor(ModRecipeTypes.CASTING.get(), inv, level)
-                        .orElse(null);
-
-        if (recipe == null) return;
-
         ItemStack result = recipe.getResultItem(level.registryAccess());
         float xp = recipe.getExperience();
         boolean needPolishing = recipe.requiresPolishing();
@@ -0,0 +1,88 @@
+package net.stirdrem.overgeared.block.entity;
+
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import net.stirdrem.overgeared.util.OvergearedPerf;
+
+/**
+ * Last matched recipe of a machine. The input slots are compared against a snapshot every
+ * tick, and the recipe is only looked up again when they change; even then the last recipe
+ * is tried first. Stacks are compared by item, count and tag, so stacks edited in place
+ * are picked up too.
+ */
+public class MachineRecipeCache<R extends Recipe<? super SimpleContainer>> {
+    private final int[] slots;
+    private final SimpleContainer inputs;
+    private final ItemStack[] snapshot;
+    private final BiFunction<Level, SimpleContainer, Optional<R>> lookup;
+
+    @Nullable
+    private RecipeManager recipeManager;
+    @Nullable
+    private R recipe;
+
+    /**
+     * @param slots  handler slots that make up the recipe input, in container order
+     * @param lookup full recipe lookup, used when the last recipe no longer matches
+     */
+    public MachineRecipeCache(int[] slots, BiFunction<Level, SimpleContainer, Optional<R>> lookup) {
+        this.slots = slots;
+        this.inputs = new SimpleContainer(slots.length);
+        this.snapshot = new ItemStack[slots.length];
+        this.lookup = lookup;
+        Arrays.fill(snapshot, ItemStack.EMPTY);
+    }
+
+    public boolean hasChanged(Level level, IItemHandler handler) {
+        if (recipeManager != level.getRecipeManager()) return true;
+
+        for (int i = 0; i < slots.length; i++) {
+            if (!ItemStack.matches(snapshot[i], handler.getStackInSlot(slots[i]))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Re-resolves the recipe if the inputs changed, returns true if they did.
+     */
+    public boolean update(Level level, IItemHandler handler) {
+        if (!hasChanged(level, handler)) {
+            OvergearedPerf.count(OvergearedPerf.Counter.CACHE_HITS);
+            return false;
+        }
+
+        // Recipes are replaced on reload, don't keep one from the old manager
+        if (recipeManager != level.getRecipeManager()) {
+            recipeManager = level.getRecipeManager();
+            recipe = null;
+        }
+
+        for (int i = 0; i < slots.length; i++) {
+            ItemStack stack = handler.getStackInSlot(slots[i]);
+            snapshot[i] = stack.copy();
+            inputs.setItem(i, stack);
+        }
+
+        if (recipe == null || !recipe.matches(inputs, level)) {
+            OvergearedPerf.count(OvergearedPerf.Counter.RECIPE_LOOKUPS);
+            recipe = lookup.apply(level, inputs).orElse(null);
+        } else {
+            OvergearedPerf.count(OvergearedPerf.Counter.CACHE_HITS);
+        }
+        return true;
+    }
+
+    @Nullable
+    public R getRecipe() {
+        return recipe;
+    }
+}
@@ -29,7 +29,7 @@ import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.SidedInvWrapper;
-import net.stirdrem.overgeared.recipe.NetherAlloySmeltingRecipe;
+import net.stirdrem.overgeared.recipe.INetherAlloyRecipe;
 import net.stirdrem.overgeared.recipe.NetherAlloySmeltingRecipe;
 import net.stirdrem.overgeared.recipe.ShapedNetherAlloySmeltingRecipe;
 import net.stirdrem.overgeared.screen.NetherAlloySmelterMenu;
@@ -61,6 +61,11 @@ public class NetherAlloySmelterBlockEntity extends BaseContainerBlockEntity impl
     private int cookTimeTotal;
     private float storedExperience = 0.0F;
 
+    private final MachineRecipeCache<INetherAlloyRecipe> recipeCache =
+            new MachineRecipeCache<>(inputSlots(), NetherAlloySmelterBlockEntity::findRecipe);
+    // Unlit with nothing to smelt or burn, skips ticking until the inventory changes
+    private boolean sleeping = false;
+
     public NetherAlloySmelterBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.NETHER_ALLOY_FURNACE_BE.get(), pos, state);
 
@@ -94,14 +99,19 @@ public class NetherAlloySmelterBlockEntity extends BaseContainerBlockEntity impl
     // Tick logic
     // --------------------------------------------------
     public static void tick(Level level, BlockPos pos, BlockState state, NetherAlloySmelterBlockEntity be) {
+        // The input check also catches stacks edited in place, which don't call setChanged()
+        if (be.sleeping && !be.recipeCache.hasChanged(level, be.itemHandler)) return;
+        be.sleeping = false;
+
         boolean wasLit = be.burnTime > 0;
         boolean dirty = false;
 
         if (be.burnTime > 0) be.burnTime--;
 
         ItemStack fuel = be.itemHandler.getStackInSlot(FUEL_SLOT);
+        boolean canSmelt = be.canSmelt();
 
-        if (be.burnTime == 0 && be.canSmelt()) {
+        if (be.burnTime == 0 && canSmelt) {
             be.maxBurnTime = be.burnTime = ForgeHooks.getBurnTime(fuel, RecipeType.SMELTING);
             if (be.burnTime > 0 && !fuel.isEmpty()) {
                 Item fuelContainer = fuel.getItem().getCraftingRemainingItem();
@@ -112,14 +122,14 @@ public class NetherAlloySmelterBlockEntity extends BaseContainerBlockEntity impl
             }
         }
 
-        if (be.isLit() && be.canSmelt()) {
+        if (be.isLit() && canSmelt) {
             be.cookTime++;
             if (be.cookTime >= be.cookTimeTotal) {
                 be.cookTime = 0;
                 be.smelt();
                 dirty = true;
             }
-        } else if (!be.canSmelt()) {
+        } else if (!canSmelt) {
             be.cookTime = 0;
         }
 
@@ -130,6 +140,15 @@ public class NetherAlloySmelterBlockEntity extends BaseContainerBlockEntity impl
         }
 
         if (dirty) be.setChanged();
+
+        // Still unlit here means there was no recipe, no room for the result or no fuel
+        be.sleeping = !be.isLit();
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        sleeping = false;
     }
 
     // --------------------------------------------------
@@ -163,55 +182,44 @@ public class NetherAlloySmelterBlockEntity extends BaseContainerBlockEntity impl
     // --------------------------------------------------
     // Smelting logic
     // --------------------------------------------------
-    private boolean canSmelt() {
-        SimpleContainer inv = new SimpleContainer(INPUT_SLOTS);
-        for (int i = 0; i < INPUT_SLOTS; i++) inv.setItem(i, itemHandler.getStackInSlot(i));
+    private static int[] inputSlots() {
+        int[] slots = new int[INPUT_SLOTS];
+        for (int i = 0; i < slots.length; i++) slots[i] = i;
+        return slots;
+    }
 
+    private static Optional<INetherAlloyRecipe> findRecipe(Level level, SimpleContainer inv) {
         // Try shapeless recipe first
-        Optional<NetherAlloySmeltingRecipe> shapelessRecipe =
-                level.getRecipeManager().getRecipeFor(NetherAlloySmeltingRecipe.Type.INSTANCE, inv, level);
+        Optional<INetherAlloyRecipe> shapelessRecipe = level.getRecipeManager()
+                .getRecipeFor(NetherAlloySmeltingRecipe.Type.INSTANCE, inv, level).map(INetherAlloyRecipe.class::cast);
+        if (shapelessRecipe.isPresent()) return shapelessRecipe;
 
         // Try shaped recipe if shapeless not found
-        Optional<ShapedNetherAlloySmeltingRecipe> shapedRecipe =
-                level.getRecipeManager().getRecipeFor(ShapedNetherAlloySmeltingRecipe.Type.INSTANCE, inv, level);
-
-        if (shapelessRecipe.isEmpty() && shapedRecipe.isEmpty()) return false;
+        return level.getRecipeManager()
+                .getRecipeFor(ShapedNetherAlloySmeltingRecipe.Type.INSTANCE, inv, level).map(INetherAlloyRecipe.class::cast);
+    }
 
-        cookTimeTotal = shapelessRecipe.map(NetherAlloySmeltingRecipe::getCookingTime)
-                .orElseGet(() -> shapedRecipe.get().getCookingTime());
+    private boolean canSmelt() {
+        recipeCache.update(level, itemHandler);
+        INetherAlloyRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null) return false;
 
-        ItemStack result = shapelessRecipe.map(r -> r.getResultItem(level.registryAccess()))
-                .orElseGet(() -> shapedRecipe.get().getResultItem(level.registryAccess()));
+        cookTimeTotal = recipe.getCookingTime();
 
+        ItemStack result = recipe.getResultItem(level.registryAccess());
         ItemStack output = itemHandler.getStackInSlot(OUTPUT_SLOT);
         return !result.isEmpty() &&
                 (output.isEmpty() || (output.is(result.getItem()) &&
                         output.getCount() + result.getCount() <= output.getMaxStackSize()));
     }
 
+    // Only called after canSmelt() passed this tick, so the cached recipe is current
     private void smelt() {
-        if (!canSmelt()) return;
-
-        SimpleContainer inv = new SimpleContainer(INPUT_SLOTS);
-        for (int i = 0; i < INPUT_SLOTS; i++) inv.setItem(i, itemHandler.getStackInSlot(i));
-
-        Optional<NetherAlloySmeltingRecipe> shapelessRecipe =
-                level.getRecipeManager().getRecipeFor(NetherAlloySmeltingRecipe.Type.INSTANCE, inv, level);
-        Optional<ShapedNetherAlloySmeltingRecipe> shapedRecipe =
-                level.getRecipeManager().getRecipeFor(ShapedNetherAlloySmeltingRecipe.Type.INSTANCE, inv, level);
-
-        ItemStack result;
-        float xp;
-
-        if (shapelessRecipe.isPresent()) {
-            NetherAlloySmeltingRecipe recipe = shapelessRecipe.get();
-            result = recipe.getResultItem(level.registryAccess());
-            xp = recipe.getExperience();
-        } else if (shapedRecipe.isPresent()) {
-            ShapedNetherAlloySmeltingRecipe recipe = shapedRecipe.get();
-            result = recipe.getResultItem(level.registryAccess());
-            xp = recipe.getExperience();
-        } else return;
+        INetherAlloyRecipe recipe = recipeCache.getRecipe();
+        if (recipe == null) return;
+
+        ItemStack result = recipe.getResultItem(level.registryAccess());
+        float xp = recipe.getExperience();
 
         ItemStack output = itemHandler.getStackInSlot(OUTPUT_SLOT);
         if (output.isEmpty()) {
@@ -43,16 +43,15 @@ public class StoneSmithingAnvilBlockEntity extends AbstractSmithingAnvilBlockEnt
     @Override
     protected String determineForgingQuality() {
         // Get quality from anvil or use default if null
-        String quality = anvilBlock.getQuality();
+        ForgingQuality quality = ForgingQuality.byName(getForgingQuality());
         if (quality == null) {
-            return "poor"; // Default quality
+            return ForgingQuality.POOR.getDisplayName(); // Default quality
         }
 
-        // Use switch expression for better null safety
-        return switch (quality.toLowerCase()) {
-            case "poor" -> ForgingQuality.POOR.getDisplayName();
-            default -> "well";// Fallback
-        };
+        // Stone anvils cap quality at 'well'
+        return quality == ForgingQuality.POOR
+                ? ForgingQuality.POOR.getDisplayName()
+                : ForgingQuality.WELL.getDisplayName();
     }
 
     @Override
@@ -0,0 +1,81 @@
+package net.stirdrem.overgeared.block.entity.renderer;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
+
+/**
+ * Where the anvil renderer draws each stack: which input slots show up, and their
+ * rotations, heights and scales. Built from the anvil's items only, so it stays valid until
+ * its inventory changes and the renderer just replays it every frame.
+ */
+public final class AnvilRenderPlan {
+    public static final int MAX_INPUTS = 3;
+
+    private static final float BASE_Y = 1.01f;
+    private static final float ITEM_HEIGHT = 0.02f;
+    private static final float BLOCK_HEIGHT = 0.2f;
+    private static final float BLOCK_BASE_Y_OFFSET = 0.09f;
+
+    final int inputCount;
+    final int[] inputSlots = new int[MAX_INPUTS];
+    final float[] inputY = new float[MAX_INPUTS];
+    final float[] inputRotation = new float[MAX_INPUTS];
+    final float[] inputScale = new float[MAX_INPUTS];
+    final float outputY;
+    final float outputZ;
+
+    private AnvilRenderPlan(AbstractSmithingAnvilBlockEntity anvil) {
+        ItemStack output = anvil.getRenderStack(10);
+        outputY = isBlockItem(output) ? 1.05f : 1.02f;
+
+        // Up to three unique input items first, then fill up with whatever is left
+        Item[] shown = new Item[MAX_INPUTS];
+        boolean anyInput = false;
+        int count = 0;
+        float height = BASE_Y;
+        for (int pass = 0; pass < 2 && count < MAX_INPUTS; pass++) {
+            for (int i = 0; i < 9 && count < MAX_INPUTS; i++) {
+                ItemStack stack = anvil.getRenderStack(i);
+                if (stack.isEmpty()) continue;
+                anyInput = true;
+                if (pass == 0 ? contains(shown, count, stack.getItem()) : isPlanned(count, i)) continue;
+
+                boolean block = isBlockItem(stack);
+                shown[count] = stack.getItem();
+                inputSlots[count] = i;
+                inputY[count] = block ? height + BLOCK_BASE_Y_OFFSET : height;
+                inputRotation[count] = 96f + count * 14f;
+                inputScale[count] = block ? 0.4f : 0.35f;
+                height += block ? BLOCK_HEIGHT : ITEM_HEIGHT;
+                count++;
+            }
+        }
+        inputCount = count;
+        outputZ = anyInput ? -0.43f : 0f;
+    }
+
+    public static AnvilRenderPlan build(AbstractSmithingAnvilBlockEntity anvil) {
+        return new AnvilRenderPlan(anvil);
+    }
+
+    private boolean isPlanned(int count, int slot) {
+        for (int i = 0; i < count; i++) {
+            if (inputSlots[i] == slot) return true;
+        }
+        return false;
+    }
+
+    private static boolean contains(Item[] items, int count, Item item) {
+        for (int i = 0; i < count; i++) {
+            if (items[i] == item) return true;
+        }
+        return false;
+    }
+
+    private static boolean isBlockItem(ItemStack stack) {
+        return !stack.isEmpty() && Block.byItem(stack.getItem()) != Blocks.AIR;
+    }
+}
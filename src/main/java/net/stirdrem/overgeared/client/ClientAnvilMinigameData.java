@@ -6,9 +6,6 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemStack;
 import net.stirdrem.overgeared.config.ServerConfig;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 public class ClientAnvilMinigameData {
@@ -32,7 +29,6 @@ public class ClientAnvilMinigameData {
     public static int goodZoneEnd = perfectZoneEnd + 10;
     public static float zoneShrinkFactor = 0.80f;
     public static float zoneShiftAmount = 15.0f;
-    public static Map<BlockPos, UUID> occupiedAnvils = Collections.synchronizedMap(new HashMap<>());
     public static int skillLevel = 0;
 
     /*private static PlayerMinigameData ClientAnvilMinigameData {
@@ -241,14 +237,6 @@ public class ClientAnvilMinigameData {
         goodZoneEnd = Mth.clamp(goodZoneEnd, goodZoneStart, 100);
     }
 
-    public static UUID getOccupiedAnvil(BlockPos pos) {
-        return occupiedAnvils.get(pos);
-    }
-
-    public static void putOccupiedAnvil(BlockPos pos, UUID me) {
-        occupiedAnvils.put(pos, me);
-    }
-
     private static BlockPos pendingMinigamePos = null;
 
     public static void setPendingMinigame(BlockPos pos) {
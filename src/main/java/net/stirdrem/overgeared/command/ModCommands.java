@@ -11,6 +11,7 @@ import net.minecraft.nbt.CompoundTag;
 
 import net.stirdrem.overgeared.item.ModItems;
 import net.stirdrem.overgeared.util.ConfigHelper;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 
 public class ModCommands {
 
@@ -87,6 +88,28 @@ public class ModCommands {
                                 ))
                         )
         );
+
+        // /overgeared perf [reset]
+        dispatcher.register(
+                Commands.literal("overgeared")
+                        .requires(source -> source.hasPermission(2)) // Requires operator level 2 or higher
+                        .then(Commands.literal("perf")
+                                .then(Commands.literal("reset")
+                                        .executes(ctx -> {
+                                            OvergearedPerf.reset();
+                                            ctx.getSource().sendSuccess(
+                                                    () -> Component.literal("Reset Overgeared perf counters"), false);
+                                            return 1;
+                                        })
+                                )
+                                .executes(ctx -> {
+                                    for (String line : OvergearedPerf.summary()) {
+                                        ctx.getSource().sendSuccess(() -> Component.literal(line), false);
+                                    }
+                                    return 1;
+                                })
+                        )
+        );
     }
 
     private static int giveCast(CommandSourceStack source, String toolType, String quality, String material) {
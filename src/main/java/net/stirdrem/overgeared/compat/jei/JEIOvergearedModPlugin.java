@@ -3,11 +3,15 @@ package net.stirdrem.overgeared.compat.jei;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
 import mezz.jei.api.constants.RecipeTypes;
+import mezz.jei.api.ingredients.subtypes.IIngredientSubtypeInterpreter;
+import mezz.jei.api.ingredients.subtypes.UidContext;
 import mezz.jei.api.recipe.vanilla.IJeiBrewingRecipe;
 import mezz.jei.api.registration.*;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -18,7 +22,6 @@ import net.minecraft.world.item.crafting.*;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.common.Tags;
-import net.minecraftforge.registries.ForgeRegistries;
 import net.stirdrem.overgeared.AnvilTier;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.block.ModBlocks;
@@ -91,51 +94,37 @@ public class JEIOvergearedModPlugin implements IModPlugin {
         if (level == null) return;
         RecipeManager recipeManager = level.getRecipeManager();
 
-        List<ForgingRecipe> allForgingRecipes = recipeManager.getAllRecipesFor(ForgingRecipe.Type.INSTANCE);
-
-        // Filter stone and steel recipes
-        List<ForgingRecipe> stoneTierRecipes = allForgingRecipes.stream()
-                .filter(recipe -> recipe.getAnvilTier().equalsIgnoreCase(AnvilTier.STONE.getDisplayName()))
-                .toList();
-
-        List<ForgingRecipe> steelTierRecipes = allForgingRecipes.stream()
-                .filter(recipe -> recipe.getAnvilTier().equalsIgnoreCase(AnvilTier.IRON.getDisplayName()))
-                .toList();
-        List<ForgingRecipe> ATierRecipes = allForgingRecipes.stream()
-                .filter(recipe -> recipe.getAnvilTier().equalsIgnoreCase(AnvilTier.ABOVE_A.getDisplayName()))
-                .toList();
-        List<ForgingRecipe> BTierRecipes = allForgingRecipes.stream()
-                .filter(recipe -> recipe.getAnvilTier().equalsIgnoreCase(AnvilTier.ABOVE_B.getDisplayName()))
-                .toList();
+        // Split by anvil tier in one pass, recipes for unknown tiers are left out
+        Map<AnvilTier, List<ForgingRecipe>> recipesByTier = new EnumMap<>(AnvilTier.class);
+        for (ForgingRecipe recipe : recipeManager.getAllRecipesFor(ForgingRecipe.Type.INSTANCE)) {
+            AnvilTier tier = AnvilTier.fromDisplayName(recipe.getAnvilTier());
+            if (tier != null) {
+                recipesByTier.computeIfAbsent(tier, t -> new ArrayList<>()).add(recipe);
+            }
+        }
 
         // Add only stone-tier recipes to Stone Forging JEI category
-        //registration.addRecipes(ForgingRecipeCategory.FORGING_RECIPE_TYPE, stoneTierRecipes);
-
-        // Add steel-tier AND stone-tier to Steel Forging JEI category
-        List<ForgingRecipe> combinedSteelCategory = new java.util.ArrayList<>();
-        combinedSteelCategory.addAll(stoneTierRecipes);
-        combinedSteelCategory.addAll(steelTierRecipes);
-        combinedSteelCategory.addAll(ATierRecipes);
-        combinedSteelCategory.addAll(BTierRecipes);
-        combinedSteelCategory.sort((a, b) -> {
-            String catA = categorizeRecipe(a);
-            String catB = categorizeRecipe(b);
-
-            int priorityA = categoryPriority.getOrDefault(catA, 999);
-            int priorityB = categoryPriority.getOrDefault(catB, 999);
-
-            if (priorityA != priorityB) {
-                return Integer.compare(priorityA, priorityB);
-            }
+        //registration.addRecipes(ForgingRecipeCategory.FORGING_RECIPE_TYPE, recipesByTier.get(AnvilTier.STONE));
 
-            // Fallback: alphabetical by display name
-            return a.getResultItem(null).getDisplayName().getString()
-                    .compareToIgnoreCase(b.getResultItem(null).getDisplayName().getString());
-        });
+        // Every tier goes into the one forging category, lowest tier first
+        List<ForgingRecipe> combinedSteelCategory = new ArrayList<>();
+        for (AnvilTier tier : AnvilTier.values()) {
+            combinedSteelCategory.addAll(recipesByTier.getOrDefault(tier, List.of()));
+        }
+        // Category and display name are resolved once per recipe rather than per comparison
+        Map<ForgingRecipe, Integer> priorities = new IdentityHashMap<>();
+        Map<ForgingRecipe, String> names = new IdentityHashMap<>();
+        for (ForgingRecipe recipe : combinedSteelCategory) {
+            priorities.put(recipe, categoryPriority.getOrDefault(categorizeRecipe(recipe), 999));
+            names.put(recipe, recipe.getResultItem(null).getDisplayName().getString());
+        }
+        combinedSteelCategory.sort(Comparator.<ForgingRecipe>comparingInt(priorities::get)
+                // Fallback: alphabetical by display name
+                .thenComparing(names::get, String.CASE_INSENSITIVE_ORDER));
         registration.addRecipes(ForgingRecipeCategory.FORGING_RECIPE_TYPE, combinedSteelCategory);
         registration.addRecipes(
                 CastingRecipeCategory.CASTING_TYPE,
-                level.getRecipeManager()
+                recipeManager
                         .getAllRecipesFor(ModRecipeTypes.CASTING.get())
                         .stream()
                         .sorted(Comparator.comparing(recipe ->
@@ -149,7 +138,6 @@ public class JEIOvergearedModPlugin implements IModPlugin {
         // Rock Knapping
         List<RockKnappingRecipe> knappingRecipes = recipeManager.getAllRecipesFor(RockKnappingRecipe.Type.INSTANCE);
         registration.addRecipes(KnappingRecipeCategory.KNAPPING_RECIPE_TYPE, knappingRecipes);
-        List<AlloySmeltingRecipe> alloyingRecipes = recipeManager.getAllRecipesFor(AlloySmeltingRecipe.Type.INSTANCE);
         List<IAlloyRecipe> allRecipes = new ArrayList<>();
 
         allRecipes.addAll(recipeManager.getAllRecipesFor(AlloySmeltingRecipe.Type.INSTANCE));
@@ -206,12 +194,14 @@ public class JEIOvergearedModPlugin implements IModPlugin {
         if (ServerConfig.ENABLE_FLETCHING_RECIPES.get()) {
             List<FletchingRecipe> fletchingRecipes = recipeManager.getAllRecipesFor(FletchingRecipe.Type.INSTANCE);
             registration.addRecipes(FletchingCategory.FLETCHING_RECIPE_TYPE, fletchingRecipes);
+            // Potion conversions come from PotionArrowRecipePlugin, see registerAdvanced
+        }
+    }
 
-            // Add dynamic "potion conversion" recipes
-            List<FletchingRecipe> dynamicConversions = generatePotionConversions();
-            if (ServerConfig.UPGRADE_ARROW_POTION_TOGGLE.get()) {
-                registration.addRecipes(FletchingCategory.FLETCHING_RECIPE_TYPE, dynamicConversions);
-            }
+    @Override
+    public void registerAdvanced(IAdvancedRegistration registration) {
+        if (ServerConfig.ENABLE_FLETCHING_RECIPES.get() && ServerConfig.UPGRADE_ARROW_POTION_TOGGLE.get()) {
+            registration.addRecipeManagerPlugin(new PotionArrowRecipePlugin());
         }
     }
 
@@ -240,88 +230,6 @@ public class JEIOvergearedModPlugin implements IModPlugin {
         return recipes;
     }
 
-    private List<FletchingRecipe> generatePotionConversions() {
-        List<FletchingRecipe> list = new ArrayList<>();
-
-        // Upgradeable arrow types
-        ItemStack[] arrowTypes;
-        if (ServerConfig.UPGRADE_ARROW_POTION_TOGGLE.get())
-            arrowTypes = new ItemStack[]{
-                    new ItemStack(Items.ARROW),
-                    new ItemStack(ModItems.IRON_UPGRADE_ARROW.get()),
-                    new ItemStack(ModItems.STEEL_UPGRADE_ARROW.get()),
-                    new ItemStack(ModItems.DIAMOND_UPGRADE_ARROW.get())
-            };
-        else arrowTypes = new ItemStack[]{
-                new ItemStack(Items.ARROW)
-        };
-        int idCounter = 0;
-
-        // --- Generate tipped conversions ---
-        for (ItemStack arrow : arrowTypes) {
-            for (Potion potion : ForgeRegistries.POTIONS) {
-                if (potion != Potions.EMPTY) {
-                    // Potion input stack
-                    ItemStack potionStack = new ItemStack(Items.POTION);
-                    PotionUtils.setPotion(potionStack, potion);
-
-                    // Output stack
-                    ItemStack output = arrow.is(Items.ARROW) ? new ItemStack(Items.TIPPED_ARROW) : arrow.copy();
-                    PotionUtils.setPotion(output, potion);
-
-                    list.add(new FletchingRecipe(
-                            ResourceLocation.tryBuild(OvergearedMod.MOD_ID, "lingering_conv_" + (idCounter++)),
-                            Ingredient.EMPTY,             // shaft
-                            Ingredient.of(arrow),        // tip
-                            Ingredient.EMPTY,             // feather
-                            Ingredient.of(potionStack),
-                            output,              // normal result
-                            ItemStack.EMPTY,              // tipped result
-                            ItemStack.EMPTY,                       // lingering result
-                            "Potion",                     // tippedTag (not used)
-                            "LingeringPotion"              // lingeringTag
-                    ));
-                }
-            }
-        }
-
-        // --- Generate lingering conversions ---
-        for (ItemStack arrow : arrowTypes) {
-            for (Potion potion : ForgeRegistries.POTIONS) {
-                if (potion != Potions.EMPTY) {
-                    // Potion input stack
-                    ItemStack potionStack = new ItemStack(Items.LINGERING_POTION);
-                    PotionUtils.setPotion(potionStack, potion);
-
-                    // Output stack
-                    ItemStack output;
-                    if (arrow.is(Items.ARROW)) {
-                        output = new ItemStack(ModItems.LINGERING_ARROW.get());
-                        PotionUtils.setPotion(output, potion);
-                    } else {
-                        output = arrow.copy();
-                        setLingeringPotion(output, potion);
-                    }
-
-                    list.add(new FletchingRecipe(
-                            ResourceLocation.tryBuild(OvergearedMod.MOD_ID, "lingering_conv_" + (idCounter++)),
-                            Ingredient.EMPTY,             // shaft
-                            Ingredient.of(arrow),        // tip
-                            Ingredient.EMPTY,             // feather
-                            Ingredient.of(potionStack),
-                            output,              // normal result
-                            ItemStack.EMPTY,              // tipped result
-                            ItemStack.EMPTY,                       // lingering result
-                            "Potion",                     // tippedTag (not used)
-                            "LingeringPotion"              // lingeringTag
-                    ));
-                }
-            }
-        }
-
-        return list;
-    }
-
     @Override
     public void registerGuiHandlers(IGuiHandlerRegistration registration) {
         registration.addRecipeClickArea(SteelSmithingAnvilScreen.class, 90, 35, 22, 15,
@@ -352,10 +260,23 @@ public class JEIOvergearedModPlugin implements IModPlugin {
 
     @Override
     public void registerItemSubtypes(ISubtypeRegistration registration) {
-        registration.useNbtForSubtypes(ModItems.LINGERING_ARROW.get());
-        registration.useNbtForSubtypes(ModItems.IRON_UPGRADE_ARROW.get());
-        registration.useNbtForSubtypes(ModItems.STEEL_UPGRADE_ARROW.get());
-        registration.useNbtForSubtypes(ModItems.DIAMOND_UPGRADE_ARROW.get());
+        registration.registerSubtypeInterpreter(ModItems.LINGERING_ARROW.get(), JEIOvergearedModPlugin::potionArrowSubtype);
+        registration.registerSubtypeInterpreter(ModItems.IRON_UPGRADE_ARROW.get(), JEIOvergearedModPlugin::potionArrowSubtype);
+        registration.registerSubtypeInterpreter(ModItems.STEEL_UPGRADE_ARROW.get(), JEIOvergearedModPlugin::potionArrowSubtype);
+        registration.registerSubtypeInterpreter(ModItems.DIAMOND_UPGRADE_ARROW.get(), JEIOvergearedModPlugin::potionArrowSubtype);
+    }
+
+    /**
+     * Tells potion arrows apart by their potion tags alone instead of their whole NBT.
+     */
+    private static String potionArrowSubtype(ItemStack stack, UidContext context) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null) return IIngredientSubtypeInterpreter.NONE;
+
+        String potion = tag.getString("Potion");
+        Tag lingering = tag.get("LingeringPotion");
+        if (lingering == null) return potion;
+        return potion + ";lingering=" + lingering.getAsString();
     }
 
     @Override
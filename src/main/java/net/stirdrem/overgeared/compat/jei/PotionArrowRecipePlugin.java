@@ -0,0 +1,198 @@
+package net.stirdrem.overgeared.compat.jei;
+
+import mezz.jei.api.constants.VanillaTypes;
+import mezz.jei.api.recipe.IFocus;
+import mezz.jei.api.recipe.RecipeIngredientRole;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.recipe.advanced.IRecipeManagerPlugin;
+import mezz.jei.api.recipe.category.IRecipeCategory;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.alchemy.Potion;
+import net.minecraft.world.item.alchemy.PotionUtils;
+import net.minecraft.world.item.alchemy.Potions;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.item.ModItems;
+import net.stirdrem.overgeared.recipe.FletchingRecipe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Potion tipping recipes for the fletching category, one per arrow type, potion and
+ * tipped/lingering. They're built when JEI asks for them instead of all up front: a focus
+ * only builds the handful it matches, browsing the whole category builds the full list once.
+ */
+public class PotionArrowRecipePlugin implements IRecipeManagerPlugin {
+    private final List<Item> arrows = List.of(
+            Items.ARROW,
+            ModItems.IRON_UPGRADE_ARROW.get(),
+            ModItems.STEEL_UPGRADE_ARROW.get(),
+            ModItems.DIAMOND_UPGRADE_ARROW.get()
+    );
+    private final Map<Item, List<FletchingRecipe>> byArrow = new HashMap<>();
+    private List<FletchingRecipe> allRecipes;
+
+    @Override
+    public <V> List<RecipeType<?>> getRecipeTypes(IFocus<V> focus) {
+        boolean handled = focus.checkedCast(VanillaTypes.ITEM_STACK)
+                .map(itemFocus -> handles(itemFocus.getTypedValue().getIngredient(), itemFocus.getRole()))
+                .orElse(false);
+        return handled ? List.of(FletchingCategory.FLETCHING_RECIPE_TYPE) : List.of();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, V> List<T> getRecipes(IRecipeCategory<T> recipeCategory, IFocus<V> focus) {
+        if (!recipeCategory.getRecipeType().equals(FletchingCategory.FLETCHING_RECIPE_TYPE)) return List.of();
+
+        return focus.checkedCast(VanillaTypes.ITEM_STACK)
+                .map(itemFocus -> (List<T>) recipesFor(itemFocus.getTypedValue().getIngredient(), itemFocus.getRole()))
+                .orElse(List.of());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getRecipes(IRecipeCategory<T> recipeCategory) {
+        if (!recipeCategory.getRecipeType().equals(FletchingCategory.FLETCHING_RECIPE_TYPE)) return List.of();
+
+        if (allRecipes == null) {
+            List<FletchingRecipe> recipes = new ArrayList<>();
+            for (boolean lingering : new boolean[]{false, true}) {
+                for (Item arrow : arrows) {
+                    for (Potion potion : ForgeRegistries.POTIONS) {
+                        if (potion != Potions.EMPTY) {
+                            recipes.add(createRecipe(arrow, potion, lingering));
+                        }
+                    }
+                }
+            }
+            allRecipes = List.copyOf(recipes);
+        }
+        return (List<T>) allRecipes;
+    }
+
+    private boolean handles(ItemStack stack, RecipeIngredientRole role) {
+        if (role == RecipeIngredientRole.INPUT) {
+            return isArrow(stack) || isPotion(stack) && PotionUtils.getPotion(stack) != Potions.EMPTY;
+        }
+        if (role == RecipeIngredientRole.OUTPUT) {
+            return (stack.is(Items.TIPPED_ARROW) || stack.is(ModItems.LINGERING_ARROW.get()) || isArrow(stack))
+                    && outputPotion(stack) != Potions.EMPTY;
+        }
+        return false;
+    }
+
+    private List<FletchingRecipe> recipesFor(ItemStack stack, RecipeIngredientRole role) {
+        if (!handles(stack, role)) return List.of();
+
+        List<FletchingRecipe> recipes = new ArrayList<>();
+        if (role == RecipeIngredientRole.INPUT) {
+            if (isPotion(stack)) {
+                // Every arrow tipped with this potion
+                Potion potion = PotionUtils.getPotion(stack);
+                boolean lingering = stack.is(Items.LINGERING_POTION);
+                for (Item arrow : arrows) {
+                    recipes.add(createRecipe(arrow, potion, lingering));
+                }
+            } else {
+                // This arrow tipped with every potion, kept since arrows get looked up the most
+                return byArrow.computeIfAbsent(stack.getItem(), this::recipesForArrow);
+            }
+        } else {
+            boolean lingering = stack.is(ModItems.LINGERING_ARROW.get()) || isLingeringUpgradeArrow(stack);
+            Item arrow = isArrow(stack) ? stack.getItem() : Items.ARROW;
+            recipes.add(createRecipe(arrow, outputPotion(stack), lingering));
+        }
+        return recipes;
+    }
+
+    private List<FletchingRecipe> recipesForArrow(Item arrow) {
+        List<FletchingRecipe> recipes = new ArrayList<>();
+        for (boolean lingering : new boolean[]{false, true}) {
+            for (Potion potion : ForgeRegistries.POTIONS) {
+                if (potion != Potions.EMPTY) {
+                    recipes.add(createRecipe(arrow, potion, lingering));
+                }
+            }
+        }
+        return List.copyOf(recipes);
+    }
+
+    private boolean isArrow(ItemStack stack) {
+        for (Item arrow : arrows) {
+            if (stack.is(arrow)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isPotion(ItemStack stack) {
+        return stack.is(Items.POTION) || stack.is(Items.LINGERING_POTION);
+    }
+
+    private static boolean isLingeringUpgradeArrow(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        return tag != null && tag.contains("LingeringPotion");
+    }
+
+    /**
+     * Potion on a tipped output. Lingering upgrade arrows carry it as a LingeringPotion id,
+     * everything else in the regular Potion tag.
+     */
+    private static Potion outputPotion(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag != null && tag.contains("LingeringPotion", Tag.TAG_STRING)) {
+            return Potion.byName(tag.getString("LingeringPotion"));
+        }
+        return PotionUtils.getPotion(stack);
+    }
+
+    private static FletchingRecipe createRecipe(Item arrowItem, Potion potion, boolean lingering) {
+        ItemStack arrow = new ItemStack(arrowItem);
+
+        // Potion input stack
+        ItemStack potionStack = new ItemStack(lingering ? Items.LINGERING_POTION : Items.POTION);
+        PotionUtils.setPotion(potionStack, potion);
+
+        // Output stack
+        ItemStack output;
+        if (!arrow.is(Items.ARROW)) {
+            output = arrow.copy();
+            if (lingering) {
+                JEIOvergearedModPlugin.setLingeringPotion(output, potion);
+            } else {
+                PotionUtils.setPotion(output, potion);
+            }
+        } else {
+            output = new ItemStack(lingering ? ModItems.LINGERING_ARROW.get() : Items.TIPPED_ARROW);
+            PotionUtils.setPotion(output, potion);
+        }
+
+        ResourceLocation arrowId = BuiltInRegistries.ITEM.getKey(arrowItem);
+        ResourceLocation potionId = BuiltInRegistries.POTION.getKey(potion);
+        String path = (lingering ? "lingering_conv/" : "tipped_conv/") + arrowId.getNamespace() + "/" + arrowId.getPath()
+                + "/" + potionId.getNamespace() + "/" + potionId.getPath();
+
+        return new FletchingRecipe(
+                ResourceLocation.tryBuild(OvergearedMod.MOD_ID, path),
+                Ingredient.EMPTY,             // shaft
+                Ingredient.of(arrow),        // tip
+                Ingredient.EMPTY,             // feather
+                Ingredient.of(potionStack),
+                output,              // normal result
+                ItemStack.EMPTY,              // tipped result
+                ItemStack.EMPTY,                       // lingering result
+                "Potion",                     // tippedTag (not used)
+                "LingeringPotion"              // lingeringTag
+        );
+    }
+}
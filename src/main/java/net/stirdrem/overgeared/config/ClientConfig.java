@@ -13,6 +13,7 @@ public class ClientConfig {
 
     public static final ForgeConfigSpec.IntValue MINIGAME_OVERLAY_HEIGHT;
     public static final ForgeConfigSpec.BooleanValue POP_UP_TOGGLE;
+    public static final ForgeConfigSpec.IntValue ANVIL_INPUT_RENDER_DISTANCE;
 
 
     static {
@@ -27,6 +28,13 @@ public class ClientConfig {
                 .define("PopupVisible", true);
 
         builder.pop();
+        builder.push("Render Config");
+
+        ANVIL_INPUT_RENDER_DISTANCE = builder
+                .comment("Distance in blocks past which items on the smithing anvil grid aren't drawn. 0 draws them at any distance.")
+                .defineInRange("anvilInputRenderDistance", 0, 0, 256);
+
+        builder.pop();
 
 
         CLIENT_CONFIG = builder.build();
@@ -138,6 +138,8 @@ public class ServerConfig {
     public static ForgeConfigSpec.BooleanValue EXPERT_ABOVE_INCREASE_BLUEPRINT;
     public static ForgeConfigSpec.BooleanValue PLAYER_AUTHOR_TOOLTIPS;
     public static ForgeConfigSpec.BooleanValue ENABLE_STONE_ANVIL_BREAKING;
+    public static final ForgeConfigSpec.IntValue TICK_BUDGET_MICROS;
+    public static final ForgeConfigSpec.IntValue PERF_LOG_INTERVAL_SECONDS;
 
     static {
         final ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -425,6 +427,11 @@ public class ServerConfig {
                 );
 
 
+        builder.pop();
+
+        builder.push("Performance");
+        TICK_BUDGET_MICROS = builder.comment("Microseconds per server tick Overgeared may spend before periodic heat/cooling checks are pushed to later ticks. Set to 0 to disable.").defineInRange("tickBudgetMicros", 0, 0, 50_000);
+        PERF_LOG_INTERVAL_SECONDS = builder.comment("Log an Overgeared timing summary every this many seconds. Set to 0 to disable.").defineInRange("perfLogIntervalSeconds", 0, 0, 86_400);
         builder.pop();
         SERVER_CONFIG = builder.build();
     }
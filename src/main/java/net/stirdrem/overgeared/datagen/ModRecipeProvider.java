@@ -1,10 +1,15 @@
 package net.stirdrem.overgeared.datagen;
 
+import net.minecraft.Util;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
 import net.minecraft.data.PackOutput;
 import net.minecraft.data.recipes.*;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.ItemTags;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.AbstractCookingRecipe;
 import net.minecraft.world.item.crafting.Ingredient;
@@ -22,8 +27,14 @@ import net.stirdrem.overgeared.item.ToolType;
 import net.stirdrem.overgeared.util.ModTags;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ModRecipeProvider extends RecipeProvider implements IConditionBuilder {
     private static final List<ItemLike> STEEL_SMELTABLES = List.of(
@@ -103,6 +114,14 @@ public class ModRecipeProvider extends RecipeProvider implements IConditionBuild
     );
 
 
+    // One row per metal, expanded into a cast smelting and a cast blasting recipe for each of its parts
+    private static final List<CastMetal> CAST_METALS = List.of(
+            new CastMetal("copper", "copper", 0.5F, EnumSet.allOf(CastPart.class)),
+            new CastMetal("iron", "iron", 0.7F, EnumSet.complementOf(EnumSet.of(CastPart.HAMMER))),
+            new CastMetal("golden", "gold", 1.0F, EnumSet.complementOf(EnumSet.of(CastPart.HAMMER))),
+            new CastMetal("steel", "steel", 0.9F, EnumSet.allOf(CastPart.class))
+    );
+
     public ModRecipeProvider(PackOutput pOutput) {
         super(pOutput);
     }
@@ -1073,240 +1092,21 @@ public class ModRecipeProvider extends RecipeProvider implements IConditionBuild
                 .unlockedBy("has_arrow", has(Items.ARROW))  // Add this unlock condition
                 .save(pWriter);
 
-        // ===== CAST SMELTING =====
-
-// COPPER
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_HAMMER_HEAD.get(), 0.5F, 150)
-                .toolType("hammer").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_hammer_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_SWORD_BLADE.get(), 0.5F, 150)
-                .toolType("sword").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_sword_blade"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_PICKAXE_HEAD.get(), 0.5F, 150)
-                .toolType("pickaxe").material("copper", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_pickaxe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_AXE_HEAD.get(), 0.5F, 150)
-                .toolType("axe").material("copper", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_axe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_SHOVEL_HEAD.get(), 0.5F, 150)
-                .toolType("shovel").material("copper", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_shovel_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.COPPER_HOE_HEAD.get(), 0.5F, 150)
-                .toolType("hoe").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_hoe_head"));
-
-// IRON
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.IRON_SWORD_BLADE.get(), 0.7F, 150)
-                .toolType("sword").material("iron", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_sword_blade"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.IRON_PICKAXE_HEAD.get(), 0.7F, 150)
-                .toolType("pickaxe").material("iron", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_pickaxe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.IRON_AXE_HEAD.get(), 0.7F, 150)
-                .toolType("axe").material("iron", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_axe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.IRON_SHOVEL_HEAD.get(), 0.7F, 150)
-                .toolType("shovel").material("iron", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_shovel_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.IRON_HOE_HEAD.get(), 0.7F, 150)
-                .toolType("hoe").material("iron", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_hoe_head"));
-
-// GOLDEN
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.GOLDEN_SWORD_BLADE.get(), 1.0F, 150)
-                .toolType("sword").material("gold", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_sword_blade"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.GOLDEN_PICKAXE_HEAD.get(), 1.0F, 150)
-                .toolType("pickaxe").material("gold", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_pickaxe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.GOLDEN_AXE_HEAD.get(), 1.0F, 150)
-                .toolType("axe").material("gold", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_axe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.GOLDEN_SHOVEL_HEAD.get(), 1.0F, 150)
-                .toolType("shovel").material("gold", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_shovel_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.GOLDEN_HOE_HEAD.get(), 1.0F, 150)
-                .toolType("hoe").material("gold", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_hoe_head"));
-
-// STEEL
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_HAMMER_HEAD.get(), 0.9F, 150)
-                .toolType("hammer").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_hammer_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_SWORD_BLADE.get(), 0.9F, 150)
-                .toolType("sword").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_sword_blade"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_PICKAXE_HEAD.get(), 0.9F, 150)
-                .toolType("pickaxe").material("steel", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_pickaxe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_AXE_HEAD.get(), 0.9F, 150)
-                .toolType("axe").material("steel", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_axe_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_SHOVEL_HEAD.get(), 0.9F, 150)
-                .toolType("shovel").material("steel", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_shovel_head"));
-
-        ToolCastSmeltingRecipeBuilder.cast(ModItems.STEEL_HOE_HEAD.get(), 0.9F, 150)
-                .toolType("hoe").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_hoe_head"));
-
-// ===== CAST BLASTING =====
-
-// COPPER
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_HAMMER_HEAD.get(), 0.5F, 75)
-                .toolType("hammer").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_hammer_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_SWORD_BLADE.get(), 0.5F, 75)
-                .toolType("sword").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_sword_blade"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_PICKAXE_HEAD.get(), 0.5F, 75)
-                .toolType("pickaxe").material("copper", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_pickaxe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_AXE_HEAD.get(), 0.5F, 75)
-                .toolType("axe").material("copper", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_axe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_SHOVEL_HEAD.get(), 0.5F, 75)
-                .toolType("shovel").material("copper", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_shovel_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.COPPER_HOE_HEAD.get(), 0.5F, 75)
-                .toolType("hoe").material("copper", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("copper_hoe_head"));
-
-
-// IRON
-        ToolCastBlastingRecipeBuilder.cast(ModItems.IRON_SWORD_BLADE.get(), 0.7F, 75)
-                .toolType("sword").material("iron", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_sword_blade"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.IRON_PICKAXE_HEAD.get(), 0.7F, 75)
-                .toolType("pickaxe").material("iron", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_pickaxe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.IRON_AXE_HEAD.get(), 0.7F, 75)
-                .toolType("axe").material("iron", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_axe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.IRON_SHOVEL_HEAD.get(), 0.7F, 75)
-                .toolType("shovel").material("iron", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_shovel_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.IRON_HOE_HEAD.get(), 0.7F, 75)
-                .toolType("hoe").material("iron", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("iron_hoe_head"));
-
-
-// GOLDEN
-        ToolCastBlastingRecipeBuilder.cast(ModItems.GOLDEN_SWORD_BLADE.get(), 1.0F, 75)
-                .toolType("sword").material("gold", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_sword_blade"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.GOLDEN_PICKAXE_HEAD.get(), 1.0F, 75)
-                .toolType("pickaxe").material("gold", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_pickaxe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.GOLDEN_AXE_HEAD.get(), 1.0F, 75)
-                .toolType("axe").material("gold", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_axe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.GOLDEN_SHOVEL_HEAD.get(), 1.0F, 75)
-                .toolType("shovel").material("gold", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_shovel_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.GOLDEN_HOE_HEAD.get(), 1.0F, 75)
-                .toolType("hoe").material("gold", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("golden_hoe_head"));
-
-
-// STEEL
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_HAMMER_HEAD.get(), 0.9F, 75)
-                .toolType("hammer").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_hammer_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_SWORD_BLADE.get(), 0.9F, 75)
-                .toolType("sword").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_sword_blade"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_PICKAXE_HEAD.get(), 0.9F, 75)
-                .toolType("pickaxe").material("steel", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_pickaxe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_AXE_HEAD.get(), 0.9F, 75)
-                .toolType("axe").material("steel", 27).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_axe_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_SHOVEL_HEAD.get(), 0.9F, 75)
-                .toolType("shovel").material("steel", 9).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_shovel_head"));
-
-        ToolCastBlastingRecipeBuilder.cast(ModItems.STEEL_HOE_HEAD.get(), 0.9F, 75)
-                .toolType("hoe").material("steel", 18).needsPolishing(true)
-                .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
-                .save(pWriter, rl("steel_hoe_head"));
+        // ===== CAST SMELTING / BLASTING =====
+        castMatrix().forEach(cast -> {
+            ResourceLocation id = rl(getItemName(cast.result()));
+
+            ToolCastSmeltingRecipeBuilder.cast(cast.result(), cast.metal().experience(), 150)
+                    .toolType(cast.part().toolType).material(cast.metal().material(), cast.part().amount).needsPolishing(true)
+                    .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
+                    .save(pWriter, id);
+
+            ToolCastBlastingRecipeBuilder.cast(cast.result(), cast.metal().experience(), 75)
+                    .toolType(cast.part().toolType).material(cast.metal().material(), cast.part().amount).needsPolishing(true)
+                    .unlockedBy("has_cast", has(ModItems.UNFIRED_TOOL_CAST.get()))
+                    .save(pWriter, id);
+        });
+
 // Axe
         CastingRecipeBuilder.casting(ModItems.COPPER_AXE_HEAD.get(), 0.4f, 150)
                 .toolType("axe")
@@ -1467,9 +1267,74 @@ public class ModRecipeProvider extends RecipeProvider implements IConditionBuild
 
     }
 
+    /**
+     * Every metal and part from {@link #CAST_METALS}, resolved to its head item as the stream is consumed.
+     */
+    private static Stream<CastEntry> castMatrix() {
+        return CAST_METALS.stream().flatMap(metal -> metal.parts().stream().map(part -> {
+            ResourceLocation id = new ResourceLocation(OvergearedMod.MOD_ID, metal.prefix() + part.suffix);
+            Item result = BuiltInRegistries.ITEM.getOptional(id)
+                    .orElseThrow(() -> new IllegalStateException("No cast result " + id));
+            return new CastEntry(metal, part, result);
+        }));
+    }
+
+    /**
+     * Serializes recipes and their advancements on the background executor instead of the thread
+     * running buildRecipes. Writing was already async, and unchanged files are skipped by the hash cache.
+     */
+    @Override
+    public CompletableFuture<?> run(CachedOutput pOutput) {
+        Set<ResourceLocation> ids = new HashSet<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        buildRecipes(recipe -> {
+            if (!ids.add(recipe.getId())) {
+                throw new IllegalStateException("Duplicate recipe " + recipe.getId());
+            }
+            futures.add(CompletableFuture.supplyAsync(recipe::serializeRecipe, Util.backgroundExecutor())
+                    .thenCompose(json -> CompletableFuture.allOf(
+                            DataProvider.saveStable(pOutput, json, recipePathProvider.json(recipe.getId())))));
+            futures.add(CompletableFuture.supplyAsync(recipe::serializeAdvancement, Util.backgroundExecutor())
+                    .thenCompose(json -> json == null
+                            ? CompletableFuture.allOf()
+                            : CompletableFuture.allOf(
+                                    DataProvider.saveStable(pOutput, json, advancementPathProvider.json(recipe.getAdvancementId())))));
+        });
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
     private ResourceLocation rl(String path) {
         return new ResourceLocation(OvergearedMod.MOD_ID, path);
     }
 
+    private enum CastPart {
+        HAMMER("hammer", "_hammer_head", 18),
+        SWORD("sword", "_sword_blade", 18),
+        PICKAXE("pickaxe", "_pickaxe_head", 27),
+        AXE("axe", "_axe_head", 27),
+        SHOVEL("shovel", "_shovel_head", 9),
+        HOE("hoe", "_hoe_head", 18);
+
+        private final String toolType;
+        private final String suffix;
+        private final int amount;
+
+        CastPart(String toolType, String suffix, int amount) {
+            this.toolType = toolType;
+            this.suffix = suffix;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * @param prefix   item name prefix of the heads, e.g. golden
+     * @param material material id the cast has to hold, e.g. gold
+     */
+    private record CastMetal(String prefix, String material, float experience, Set<CastPart> parts) {
+    }
+
+    private record CastEntry(CastMetal metal, CastPart part, Item result) {
+    }
+
 
 }
@@ -10,6 +10,7 @@ import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
+import net.stirdrem.overgeared.util.ItemBlacklist;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DurabilityBlacklistReloadListener extends SimpleJsonResourceReloadListener {
 
     private static final Map<ResourceLocation, Ingredient> DATA = new ConcurrentHashMap<>();
+    private static volatile ItemBlacklist compiled = ItemBlacklist.EMPTY;
     public static final DurabilityBlacklistReloadListener INSTANCE = new DurabilityBlacklistReloadListener();
     private static final Gson GSON = new Gson();
 
@@ -27,6 +29,7 @@ public class DurabilityBlacklistReloadListener extends SimpleJsonResourceReloadL
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> resources, ResourceManager resourceManager, ProfilerFiller profiler) {
         DATA.clear();
+        List<JsonElement> compiledEntries = new ArrayList<>();
 
         for (Map.Entry<ResourceLocation, JsonElement> entry : resources.entrySet()) {
             ResourceLocation id = entry.getKey();
@@ -37,6 +40,7 @@ public class DurabilityBlacklistReloadListener extends SimpleJsonResourceReloadL
                     JsonObject json = jsonElement.getAsJsonObject();
                     Ingredient ingredient = parseIngredient(json);
                     DATA.put(id, ingredient);
+                    compiledEntries.add(json.get("item"));
                 } else {
                     throw new JsonSyntaxException("Expected JSON object for durability multiplier blacklist entry: " + id);
                 }
@@ -45,6 +49,8 @@ public class DurabilityBlacklistReloadListener extends SimpleJsonResourceReloadL
             }
         }
 
+        compiled = ItemBlacklist.fromIngredients(compiledEntries);
+
         System.out.println("Loaded " + DATA.size() + " durability blacklist entries");
 
         // Debug: print all loaded ingredients
@@ -82,15 +88,11 @@ public class DurabilityBlacklistReloadListener extends SimpleJsonResourceReloadL
     }
 
     public static boolean isBlacklisted(ItemStack stack) {
-        for (Ingredient ingredient : DATA.values()) {
-            if (ingredient.test(stack)) {
-                return true;
-            }
-        }
-        return false;
+        return compiled.contains(stack);
     }
 
     public static void clear() {
         DATA.clear();
+        compiled = ItemBlacklist.EMPTY;
     }
 }
\ No newline at end of file
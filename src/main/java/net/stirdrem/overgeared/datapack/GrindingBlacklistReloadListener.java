@@ -11,6 +11,7 @@ import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.ItemStack;
+import net.stirdrem.overgeared.util.ItemBlacklist;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class GrindingBlacklistReloadListener extends SimpleJsonResourceReloadListener {
 
     private static final Map<ResourceLocation, Ingredient> DATA = new ConcurrentHashMap<>();
+    private static volatile ItemBlacklist compiled = ItemBlacklist.EMPTY;
     public static final GrindingBlacklistReloadListener INSTANCE = new GrindingBlacklistReloadListener();
     private static final Gson GSON = new Gson();
 
@@ -28,6 +30,7 @@ public class GrindingBlacklistReloadListener extends SimpleJsonResourceReloadLis
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> resources, ResourceManager resourceManager, ProfilerFiller profiler) {
         DATA.clear();
+        List<JsonElement> compiledEntries = new ArrayList<>();
         System.out.println("Found " + resources.size() + " grinding blacklist resources:");
         for (ResourceLocation id : resources.keySet()) {
             System.out.println(" - " + id);
@@ -41,6 +44,7 @@ public class GrindingBlacklistReloadListener extends SimpleJsonResourceReloadLis
                     JsonObject json = jsonElement.getAsJsonObject();
                     Ingredient ingredient = parseIngredient(json);
                     DATA.put(id, ingredient);
+                    compiledEntries.add(json.get("item"));
                 } else {
                     throw new JsonSyntaxException("Expected JSON object for grinding blacklist entry: " + id);
                 }
@@ -50,6 +54,8 @@ public class GrindingBlacklistReloadListener extends SimpleJsonResourceReloadLis
             }
         }
 
+        compiled = ItemBlacklist.fromIngredients(compiledEntries);
+
         System.out.println("Loaded " + DATA.size() + " grinding blacklist entries");
 
         // Debug: print all loaded ingredients
@@ -87,19 +93,11 @@ public class GrindingBlacklistReloadListener extends SimpleJsonResourceReloadLis
     }
 
     public static boolean isBlacklisted(ItemStack stack) {
-        if (stack.isEmpty()) {
-            return false;
-        }
-
-        for (Ingredient ingredient : DATA.values()) {
-            if (ingredient.test(stack)) {
-                return true;
-            }
-        }
-        return false;
+        return compiled.contains(stack);
     }
 
     public static void clear() {
         DATA.clear();
+        compiled = ItemBlacklist.EMPTY;
     }
 }
\ No newline at end of file
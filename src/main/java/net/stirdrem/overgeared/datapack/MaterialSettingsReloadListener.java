@@ -9,6 +9,7 @@ import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.core.Registry;
 import net.minecraftforge.registries.ForgeRegistries;
+import net.stirdrem.overgeared.util.MaterialTable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -78,6 +79,7 @@ public class MaterialSettingsReloadListener extends SimpleJsonResourceReloadList
             }
         }
 
+        MaterialTable.invalidate();
         System.out.println("Loaded " + DATA.size() + " material settings entries");
     }
 
@@ -156,5 +158,6 @@ public class MaterialSettingsReloadListener extends SimpleJsonResourceReloadList
 
     public static void clear() {
         DATA.clear();
+        MaterialTable.invalidate();
     }
 }
\ No newline at end of file
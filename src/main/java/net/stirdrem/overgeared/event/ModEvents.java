@@ -1,9 +1,11 @@
 package net.stirdrem.overgeared.event;
 
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -13,6 +15,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 
+import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -26,19 +29,20 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import net.minecraftforge.event.ItemAttributeModifierEvent;
-import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.event.entity.player.PlayerDestroyItemEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
 import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.event.village.VillagerTradesEvent;
 import net.minecraftforge.event.village.WandererTradesEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
-import net.stirdrem.overgeared.BlueprintQuality;
+import net.stirdrem.overgeared.AnvilOccupancy;
+import net.stirdrem.overgeared.ForgingQuality;
+import net.stirdrem.overgeared.ForgingSession;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.item.ModItems;
@@ -47,50 +51,47 @@ import net.stirdrem.overgeared.networking.ModMessages;
 import net.stirdrem.overgeared.networking.packet.OnlyResetMinigameS2CPacket;
 import net.stirdrem.overgeared.networking.packet.ResetMinigameS2CPacket;
 import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.util.QualityHelper;
+import net.stirdrem.overgeared.util.OvergearedPerf;
+import net.stirdrem.overgeared.util.TickScheduler;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
 public class ModEvents {
-    private static final int HEATED_ITEM_CHECK_INTERVAL = 20; // 1 second
+    private static final int ANVIL_DISTANCE_CHECK_INTERVAL = 20; // 1 second
     private static final float BURN_DAMAGE = 1.0f;
 
     //private static final Map<UUID, Integer> playerTimeoutCounters = new HashMap<>();
 
 
-    private static int serverTick = 0;
-
+    // Players walking away from their anvil are checked once a second instead of on every player tick
     @SubscribeEvent
-    public static void onServerTick(TickEvent.ServerTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) return;
-        serverTick++;
-    }
-
-    @SubscribeEvent(priority = EventPriority.LOW)
-    public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) return;
-        if (event.side == LogicalSide.CLIENT) return;
-
-        ServerPlayer player = (ServerPlayer) event.player; // Safe cast
-        //handleAnvilMinigameSync(event, player);
-
-        // Refresh timeout counter if player is actively in minigame
-      /*  if (AnvilMinigameEvents.isIsVisible() && AnvilMinigameEvents.hasAnvilPosition()) {
-            playerTimeoutCounters.put(player.getUUID(), ServerConfig.MINIGAME_TIMEOUT_TICKS.get());
-        }*/
-
-
-        if (serverTick % HEATED_ITEM_CHECK_INTERVAL != 0) return;
-
-        Level level = player.level();
-        handleAnvilDistance(player, level);
-
+    public static void onServerStarted(ServerStartedEvent event) {
+        MinecraftServer server = event.getServer();
+        TickScheduler.get(false).repeat(ANVIL_DISTANCE_CHECK_INTERVAL, () -> {
+            long start = OvergearedPerf.start();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                handleAnvilDistance(player, player.level());
+            }
+            OvergearedPerf.stop(OvergearedPerf.Subsystem.ANVIL_DISTANCE, start);
+        });
     }
 
     private static void handleAnvilDistance(ServerPlayer player, Level level) {
-        if (AnvilMinigameEvents.hasAnvilPosition(player.getUUID())) {
-            BlockPos anvilPos = AnvilMinigameEvents.getAnvilPos(player.getUUID());
+        GlobalPos anvil = AnvilOccupancy.get(level).getAnvil(player.getUUID());
+        if (anvil != null) {
+            if (anvil.dimension() != level.dimension()) {
+                resetMinigameForPlayer(player);
+                return;
+            }
+            BlockPos anvilPos = anvil.pos();
             BlockEntity be = level.getBlockEntity(anvilPos);
             if ((be instanceof AbstractSmithingAnvilBlockEntity)) {
                 double distSq = player.blockPosition().distSqr(anvilPos);
@@ -103,50 +104,89 @@ public class ModEvents {
     }
 
 
+    // Adjusted modifiers per item, quality and slot, dropped on config reload
+    private static final Map<AttributeKey, CachedModifiers> ATTRIBUTE_CACHE = new ConcurrentHashMap<>();
+
+    public static void invalidateAttributeCache() {
+        ATTRIBUTE_CACHE.clear();
+    }
+
     @SubscribeEvent(priority = EventPriority.LOWEST)
     public static void onItemAttributes(ItemAttributeModifierEvent event) {
         ItemStack stack = event.getItemStack();
 
-        if (stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-            String quality = stack.getTag().getString("ForgingQuality");
-            Item item = stack.getItem();
+        ForgingQuality quality = ForgingQuality.of(stack);
+        if (quality == ForgingQuality.NONE) return;
 
-            if (isWeapon(item)) {
-                applyWeaponAttributes(event, quality);
-            }
-            if (isArmor(item)) {
-                applyArmorAttributes(event, quality);
+        Item item = stack.getItem();
+        boolean weapon = isWeapon(item);
+        boolean armor = isArmor(item);
+        if (!weapon && !armor) return;
+
+        // Cached results only hold for the same default modifiers that no earlier listener touched
+        Multimap<Attribute, AttributeModifier> original = event.getOriginalModifiers();
+        boolean untouched = isUntouched(event);
+        AttributeKey key = new AttributeKey(item, quality, event.getSlotType());
+
+        CachedModifiers cached = untouched ? ATTRIBUTE_CACHE.get(key) : null;
+        if (cached == null || cached.original() != original) {
+            cached = new CachedModifiers(original, adjustModifiers(event.getModifiers(), quality, weapon, armor));
+            if (untouched) {
+                ATTRIBUTE_CACHE.put(key, cached);
             }
         }
-    }
 
-    private static void applyWeaponAttributes(ItemAttributeModifierEvent event, String quality) {
-        double damageBonus = getDamageBonusForQuality(quality);
-        double speedBonus = getSpeedBonusForQuality(quality);
-        modifyAttribute(event, Attributes.ATTACK_DAMAGE, damageBonus);
-        modifyAttribute(event, Attributes.ATTACK_SPEED, speedBonus);
+        if (cached.result() != null) {
+            event.clearModifiers();
+            cached.result().forEach(event::addModifier);
+        }
     }
 
-    private static void applyArmorAttributes(ItemAttributeModifierEvent event, String quality) {
-        double armorBonus = getArmorBonusForQuality(quality);
-        modifyAttribute(event, Attributes.ARMOR, armorBonus);
-        modifyAttribute(event, Attributes.ARMOR_TOUGHNESS, armorBonus);
+    private static boolean isUntouched(ItemAttributeModifierEvent event) {
+        Multimap<Attribute, AttributeModifier> current = event.getModifiers();
+        Multimap<Attribute, AttributeModifier> original = event.getOriginalModifiers();
+        if (current.size() != original.size()) return false;
+
+        Iterator<Map.Entry<Attribute, AttributeModifier>> a = current.entries().iterator();
+        Iterator<Map.Entry<Attribute, AttributeModifier>> b = original.entries().iterator();
+        while (a.hasNext()) {
+            Map.Entry<Attribute, AttributeModifier> x = a.next();
+            Map.Entry<Attribute, AttributeModifier> y = b.next();
+            if (x.getKey() != y.getKey() || x.getValue() != y.getValue()) return false;
+        }
+        return true;
     }
 
-    private static void modifyAttribute(ItemAttributeModifierEvent event, Attribute attribute, double bonus) {
-        Multimap<Attribute, AttributeModifier> originalModifiers = event.getModifiers();
-
-        if (!originalModifiers.containsKey(attribute)) return;
-
-        // ✅ COPY before modifying
-        List<AttributeModifier> modifiers = List.copyOf(originalModifiers.get(attribute));
-
-        for (AttributeModifier modifier : modifiers) {
-            if (modifier.getAmount() == 0) continue;
+    /**
+     * The modifiers with the quality bonus folded into every non-zero damage, speed or armor
+     * modifier, or null if none of them is present.
+     */
+    @Nullable
+    private static Multimap<Attribute, AttributeModifier> adjustModifiers(Multimap<Attribute, AttributeModifier> modifiers,
+                                                                         ForgingQuality quality, boolean weapon, boolean armor) {
+        Map<Attribute, Double> bonuses = new HashMap<>();
+        if (weapon) {
+            bonuses.put(Attributes.ATTACK_DAMAGE, QualityHelper.getWeaponDamageBonus(quality));
+            bonuses.put(Attributes.ATTACK_SPEED, QualityHelper.getWeaponSpeedBonus(quality));
+        }
+        if (armor) {
+            double armorBonus = QualityHelper.getArmorBonus(quality);
+            bonuses.put(Attributes.ARMOR, armorBonus);
+            bonuses.put(Attributes.ARMOR_TOUGHNESS, armorBonus);
+        }
 
-            event.removeModifier(attribute, modifier);
-            event.addModifier(attribute, createModifiedAttribute(modifier, bonus));
+        boolean changed = false;
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> result = ImmutableMultimap.builder();
+        for (Map.Entry<Attribute, AttributeModifier> entry : modifiers.entries()) {
+            Double bonus = bonuses.get(entry.getKey());
+            AttributeModifier modifier = entry.getValue();
+            if (bonus != null && modifier.getAmount() != 0) {
+                modifier = createModifiedAttribute(modifier, bonus);
+                changed = true;
+            }
+            result.put(entry.getKey(), modifier);
         }
+        return changed ? result.build() : null;
     }
 
     private static AttributeModifier createModifiedAttribute(AttributeModifier original, double bonus) {
@@ -158,6 +198,17 @@ public class ModEvents {
         );
     }
 
+    private record AttributeKey(Item item, ForgingQuality quality, EquipmentSlot slot) {
+    }
+
+    /**
+     * @param original default modifiers the result was built from, compared by identity
+     * @param result   modifiers to put in their place, null if nothing changes
+     */
+    private record CachedModifiers(Multimap<Attribute, AttributeModifier> original,
+                                   @Nullable Multimap<Attribute, AttributeModifier> result) {
+    }
+
     private static boolean isWeapon(Item item) {
         return item instanceof TieredItem ||
                 item instanceof ProjectileWeaponItem;
@@ -167,39 +218,6 @@ public class ModEvents {
         return item instanceof ArmorItem;
     }
 
-    private static double getDamageBonusForQuality(String quality) {
-        return switch (quality.toLowerCase()) {
-            case "master" -> ServerConfig.MASTER_WEAPON_DAMAGE.get();
-            case "perfect" -> ServerConfig.PERFECT_WEAPON_DAMAGE.get();
-            case "expert" -> ServerConfig.EXPERT_WEAPON_DAMAGE.get();
-            case "well" -> ServerConfig.WELL_WEAPON_DAMAGE.get();
-            case "poor" -> ServerConfig.POOR_WEAPON_DAMAGE.get();
-            default -> 0.0;
-        };
-    }
-
-    private static double getSpeedBonusForQuality(String quality) {
-        return switch (quality.toLowerCase()) {
-            case "master" -> ServerConfig.MASTER_WEAPON_SPEED.get();
-            case "perfect" -> ServerConfig.PERFECT_WEAPON_SPEED.get();
-            case "expert" -> ServerConfig.EXPERT_WEAPON_SPEED.get();
-            case "well" -> ServerConfig.WELL_WEAPON_SPEED.get();
-            case "poor" -> ServerConfig.POOR_WEAPON_SPEED.get();
-            default -> 0.0;
-        };
-    }
-
-    private static double getArmorBonusForQuality(String quality) {
-        return switch (quality.toLowerCase()) {
-            case "master" -> ServerConfig.MASTER_ARMOR_BONUS.get();
-            case "perfect" -> ServerConfig.PERFECT_ARMOR_BONUS.get();
-            case "expert" -> ServerConfig.EXPERT_ARMOR_BONUS.get();
-            case "well" -> ServerConfig.WELL_ARMOR_BONUS.get();
-            case "poor" -> ServerConfig.POOR_ARMOR_BONUS.get();
-            default -> 0.0;
-        };
-    }
-
     @SubscribeEvent
     public static void onPlayerJoinWorld(EntityJoinLevelEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
@@ -234,6 +252,7 @@ public class ModEvents {
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
             resetMinigameForPlayer(player);
         }
+        ForgingSession.clear();
 
         // Optional: Log for debugging
         OvergearedMod.LOGGER.info("Reset all minigames on server stop.");
@@ -243,10 +262,12 @@ public class ModEvents {
         if (player == null) return;
         UUID playerId = player.getUUID();
         ModMessages.sendToPlayer(new OnlyResetMinigameS2CPacket(), player);
-        String blueprintQuality = BlueprintQuality.PERFECT.getDisplayName();
-        if (ModItemInteractEvents.playerAnvilPositions.containsKey(player.getUUID())) {
-            BlockPos anvilPos = ModItemInteractEvents.playerAnvilPositions.get(player.getUUID());
-            BlockEntity be = player.level().getBlockEntity(anvilPos);
+        GlobalPos anvilLocation = AnvilOccupancy.get(false).getAnvil(playerId);
+        // The anvil may sit in the dimension the player just left
+        ServerLevel anvilLevel = anvilLocation != null ? player.server.getLevel(anvilLocation.dimension()) : null;
+        if (anvilLevel != null) {
+            BlockPos anvilPos = anvilLocation.pos();
+            BlockEntity be = anvilLevel.getBlockEntity(anvilPos);
 
             // Only execute on server side
             if (be instanceof AbstractSmithingAnvilBlockEntity anvil) {
@@ -256,20 +277,15 @@ public class ModEvents {
 
                 // Send reset packet to the specific player
                 ModMessages.sendToPlayer(new ResetMinigameS2CPacket(anvilPos), player);
-                ModItemInteractEvents.releaseAnvil(player, anvilPos);
-                ModItemInteractEvents.playerAnvilPositions.remove(playerId);
-                ModItemInteractEvents.playerMinigameVisibility.remove(playerId);
-                Block block = player.level().getBlockState(anvilPos).getBlock();
-                blueprintQuality = anvil.minigameQuality();
+                ModItemInteractEvents.releaseAnvil(player, anvilLevel, anvilPos);
                 /*if (block instanceof AbstractSmithingAnvilNew anvilNew) {
                     anvilNew.setMinigameOn(false);
                 }*/
             }
-
-
         }
+        AnvilOccupancy.get(false).release(playerId);
 
-        AnvilMinigameEvents.reset(blueprintQuality);
+        ForgingSession.endAll(playerId);
         //playerTimeoutCounters.remove(player.getUUID());
     }
 
@@ -278,27 +294,23 @@ public class ModEvents {
         if (player == null) return;
         ModMessages.sendToPlayer(new OnlyResetMinigameS2CPacket(), player);
         BlockEntity be = player.level().getBlockEntity(anvilPos);
-        String quality = "perfect";
         if (be instanceof AbstractSmithingAnvilBlockEntity anvil) {
             anvil.setProgress(0);
             anvil.setChanged();
             anvil.setMinigameOn(false);
-            quality = anvil.minigameQuality();
         }
-        AnvilMinigameEvents.reset(quality);
+        ForgingSession.end(player.level(), anvilPos, player.getUUID());
         Block block = player.level().getBlockState(anvilPos).getBlock();
 
         // Send reset packet to the specific player
         //ModMessages.sendToPlayer(new ResetMinigameS2CPacket(anvilPos), player);
-        ModItemInteractEvents.playerAnvilPositions.remove(player.getUUID());
-        ModItemInteractEvents.playerMinigameVisibility.remove(player.getUUID());
+        AnvilOccupancy.get(false).release(player.getUUID());
     }
 
     // In ModEvents.java
     // In ModEvents.java
     public static void resetMinigameForAnvil(Level level, BlockPos anvilPos) {
         // Only execute on server side
-        String quality = "perfect";
         // Reset the anvil block entity
         BlockEntity be = level.getBlockEntity(anvilPos);
         if (be instanceof AbstractSmithingAnvilBlockEntity anvil) {
@@ -306,25 +318,15 @@ public class ModEvents {
             anvil.setChanged();
             anvil.setMinigameOn(false);
             anvil.clearOwner(); // Clear ownership from the anvil itself
-            quality = anvil.minigameQuality();
         }
 
-        AnvilMinigameEvents.reset(quality);
-        // Find the specific player using this anvil and reset only them
+        ForgingSession.endAll(level, anvilPos);
         if (level instanceof ServerLevel serverLevel) {
+            // The client only acts on it for the anvil it's using, so nearby players are enough
+            ModMessages.sendToTrackingBlock(new ResetMinigameS2CPacket(anvilPos), serverLevel, anvilPos);
 
-            for (ServerPlayer player : serverLevel.getServer().getPlayerList().getPlayers()) {
-                UUID playerId = player.getUUID();
-                ModMessages.sendToPlayer(new ResetMinigameS2CPacket(anvilPos), player);
-                if (ModItemInteractEvents.playerAnvilPositions.getOrDefault(playerId, BlockPos.ZERO).equals(anvilPos)) {
-                    // Send reset packet only to this specific player
-
-                    // Clear server-side tracking for this player
-                    ModItemInteractEvents.playerAnvilPositions.remove(playerId);
-                    ModItemInteractEvents.playerMinigameVisibility.remove(playerId);
-                    break; // Only reset the first player found (should only be one)
-                }
-            }
+            // Clear server-side tracking for whoever used it
+            AnvilOccupancy.get(serverLevel).releaseAnvil(AnvilOccupancy.key(serverLevel, anvilPos));
         }
     }
 
@@ -337,20 +339,16 @@ public class ModEvents {
 
 
         // Add Forging Quality
-        if (stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-            String quality = stack.getTag().getString("ForgingQuality");
-            Component qualityComponent = switch (quality) {
-                case "poor" -> Component.translatable("tooltip.overgeared.poor").withStyle(ChatFormatting.RED);
-                case "well" -> Component.translatable("tooltip.overgeared.well").withStyle(ChatFormatting.YELLOW);
-                case "expert" -> Component.translatable("tooltip.overgeared.expert").withStyle(ChatFormatting.BLUE);
-                case "perfect" -> Component.translatable("tooltip.overgeared.perfect").withStyle(ChatFormatting.GOLD);
-                case "master" ->
-                        Component.translatable("tooltip.overgeared.master").withStyle(ChatFormatting.LIGHT_PURPLE);
-                default -> null;
-            };
-            if (qualityComponent != null) {
-                tooltip.add(insertOffset++, qualityComponent);
-            }
+        Component qualityComponent = switch (ForgingQuality.of(stack)) {
+            case POOR -> Component.translatable("tooltip.overgeared.poor").withStyle(ChatFormatting.RED);
+            case WELL -> Component.translatable("tooltip.overgeared.well").withStyle(ChatFormatting.YELLOW);
+            case EXPERT -> Component.translatable("tooltip.overgeared.expert").withStyle(ChatFormatting.BLUE);
+            case PERFECT -> Component.translatable("tooltip.overgeared.perfect").withStyle(ChatFormatting.GOLD);
+            case MASTER -> Component.translatable("tooltip.overgeared.master").withStyle(ChatFormatting.LIGHT_PURPLE);
+            case NONE -> null;
+        };
+        if (qualityComponent != null) {
+            tooltip.add(insertOffset++, qualityComponent);
         }
 
         // Add Polish status
@@ -460,11 +458,8 @@ public class ModEvents {
         Player player = event.getEntity();
         if (!(player instanceof ServerPlayer serverPlayer)) return;
 
-        if (AnvilMinigameEvents.isIsVisible() && AnvilMinigameEvents.hasAnvilPosition(player.getUUID())) {
-            BlockPos pos = AnvilMinigameEvents.getAnvilPos(player.getUUID());
-            if (pos != null) {
-                resetMinigameForPlayer(serverPlayer);
-            }
+        if (Boolean.TRUE.equals(AnvilOccupancy.get(false).getVisible(player.getUUID()))) {
+            resetMinigameForPlayer(serverPlayer);
         }
     }
 
@@ -3,6 +3,7 @@ package net.stirdrem.overgeared.event;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -10,22 +11,22 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.SimpleMenuProvider;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
+import net.minecraft.world.inventory.ContainerListener;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -41,14 +42,14 @@ import net.minecraft.world.level.block.state.properties.IntegerProperty;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
-import net.minecraftforge.event.TickEvent;
-import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.network.NetworkHooks;
-import net.minecraftforge.server.ServerLifecycleHooks;
 
+import net.stirdrem.overgeared.AnvilOccupancy;
+import net.stirdrem.overgeared.ForgingSession;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.advancement.ModAdvancementTriggers;
 import net.stirdrem.overgeared.block.ModBlocks;
@@ -57,26 +58,24 @@ import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.client.ClientAnvilMinigameData;
 import net.stirdrem.overgeared.config.ServerConfig;
 import net.stirdrem.overgeared.datapack.GrindingBlacklistReloadListener;
+import net.stirdrem.overgeared.heatedtem.HeatExpiryScheduler;
 import net.stirdrem.overgeared.heatedtem.HeatedItemProvider;
 import net.stirdrem.overgeared.item.ModItems;
 import net.stirdrem.overgeared.item.custom.ToolCastItem;
 import net.stirdrem.overgeared.networking.ModMessages;
 import net.stirdrem.overgeared.networking.packet.*;
-import net.stirdrem.overgeared.recipe.CoolingRecipe;
 import net.stirdrem.overgeared.recipe.ForgingRecipe;
-import net.stirdrem.overgeared.recipe.GrindingRecipe;
-import net.stirdrem.overgeared.recipe.ModRecipeTypes;
+import net.stirdrem.overgeared.recipe.ItemConversionTable;
 import net.stirdrem.overgeared.screen.FletchingStationMenu;
 import net.stirdrem.overgeared.screen.RockKnappingMenuProvider;
+import net.stirdrem.overgeared.util.ItemBlacklist;
 import net.stirdrem.overgeared.util.ModTags;
 import net.stirdrem.overgeared.util.QualityHelper;
-import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static net.stirdrem.overgeared.OvergearedMod.getCooledItem;
@@ -84,14 +83,6 @@ import static net.stirdrem.overgeared.OvergearedMod.getCooledItem;
 
 @Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
 public class ModItemInteractEvents {
-    public static final Map<UUID, BlockPos> playerAnvilPositions = new HashMap<>();
-    public static final Map<UUID, Boolean> playerMinigameVisibility = new HashMap<>();
-    private static final Set<ItemEntity> trackedEntities = ConcurrentHashMap.newKeySet();
-
-    private static final ConcurrentMap<ItemEntity, Long> trackedSinceMs = new ConcurrentHashMap<>();
-    // timeout for pruning tracked entities that never went to water (milliseconds).
-// 2 minutes chosen as safe default (adjust as needed).
-    private static final long TRACKED_PRUNE_MS = 2 * 60 * 1000L;
     private static final Random RANDOM = new Random();
 
     @SubscribeEvent
@@ -205,21 +196,22 @@ public class ModItemInteractEvents {
                 return;
             }
 
-            if (currentOwner == null && !playerAnvilPositions.containsKey(player.getUUID())) {
+            AnvilOccupancy occupancy = AnvilOccupancy.get(level);
+            if (currentOwner == null && !occupancy.hasAnvil(playerUUID)) {
                 anvilBE.setOwner(playerUUID);
 
                 // ADD SERVER-SIDE TRACKING
-                playerAnvilPositions.put(playerUUID, pos);
-                playerMinigameVisibility.put(playerUUID, true);
+                occupancy.occupy(playerUUID, level, pos);
 
                 CompoundTag sync = new CompoundTag();
                 sync.putUUID("anvilOwner", playerUUID);
                 sync.putLong("anvilPos", pos.asLong());
-                ModMessages.sendToAll(new MinigameSyncS2CPacket(sync));
+                sync.putString("anvilDimension", level.dimension().location().toString());
+                ModMessages.sendToTrackingBlock(new MinigameSyncS2CPacket(sync), level, pos);
                 return;
             }
 
-            if (playerAnvilPositions.get(player.getUUID()) != null && !pos.equals(playerAnvilPositions.get(player.getUUID()))) {
+            if (occupancy.isUsingOther(playerUUID, level, pos)) {
                 serverPlayer.sendSystemMessage(Component.translatable("message.overgeared.another_anvil_in_use").withStyle(ChatFormatting.RED), true);
                 return;
             }
@@ -238,8 +230,9 @@ public class ModItemInteractEvents {
                 return;
             }
 
-            // Client should trust the server's sync data in ClientAnvilMinigameData
-            UUID currentOwner = ClientAnvilMinigameData.getOccupiedAnvil(pos);
+            // Client should trust the server's ownership syncs in its AnvilOccupancy
+            AnvilOccupancy occupancy = AnvilOccupancy.get(level);
+            UUID currentOwner = occupancy.getUser(level, pos);
             if (currentOwner != null && !currentOwner.equals(player.getUUID())) {
                 //player.sendSystemMessage(Component.translatable("message.overgeared.anvil_in_use_by_another").withStyle(ChatFormatting.RED));
                 return;
@@ -248,9 +241,7 @@ public class ModItemInteractEvents {
             if (player.getUUID().equals(currentOwner)
                     || currentOwner == null
                     && ClientAnvilMinigameData.getPendingMinigamePos() == null) {
-                BlockPos pos1 = pos;
-                BlockPos anvilPos = playerAnvilPositions.get(player.getUUID());
-                if (playerAnvilPositions.get(player.getUUID()) != null && !pos.equals(playerAnvilPositions.get(player.getUUID()))) {
+                if (occupancy.isUsingOther(playerUUID, level, pos)) {
                     //player.sendSystemMessage(Component.translatable("message.overgeared.another_anvil_in_use").withStyle(ChatFormatting.RED));
                     event.setCanceled(true);
                     event.setCancellationResult(InteractionResult.PASS);
@@ -268,12 +259,11 @@ public class ModItemInteractEvents {
                             boolean isVisible = AnvilMinigameEvents.isIsVisible();
                             AnvilMinigameEvents.setIsVisible(pos, !isVisible);
                             ModMessages.sendToServer(new SetMinigameVisibleC2SPacket(pos, !isVisible));
-                            playerMinigameVisibility.put(player.getUUID(), !isVisible);
+                            occupancy.setVisible(playerUUID, !isVisible);
                         } else {
                             quality.set(anvilBE.minigameQuality());
                             AnvilMinigameEvents.reset(quality.get());
-                            playerAnvilPositions.put(player.getUUID(), pos);
-                            playerMinigameVisibility.put(player.getUUID(), true);
+                            occupancy.occupy(playerUUID, level, pos);
                             AnvilMinigameEvents.setMinigameStarted(pos, true);
                             //AnvilMinigameEvents.setIsVisible(pos, true);
                             ModMessages.sendToServer(new MinigameSetStartedC2SPacket(pos));
@@ -305,7 +295,16 @@ public class ModItemInteractEvents {
             }
         }
         BlockPos pos = BlockPos.of(syncData.getLong("anvilPos"));
-        ClientAnvilMinigameData.putOccupiedAnvil(pos, owner);
+        // Only clients tracking the anvil get this, so it falls back to the current level
+        ResourceKey<Level> dimension = syncData.contains("anvilDimension")
+                ? ResourceKey.create(Registries.DIMENSION, new ResourceLocation(syncData.getString("anvilDimension")))
+                : Minecraft.getInstance().level.dimension();
+        AnvilOccupancy occupancy = AnvilOccupancy.get(true);
+        if (owner != null) {
+            occupancy.occupy(owner, GlobalPos.of(dimension, pos));
+        } else {
+            occupancy.releaseAnvil(GlobalPos.of(dimension, pos));
+        }
 
         // ✅ Only start minigame if this client is the new owner and it was waiting
         if (Minecraft.getInstance().player != null
@@ -323,51 +322,40 @@ public class ModItemInteractEvents {
     }
 
     public static void releaseAnvil(ServerPlayer player, BlockPos pos) {
-        UUID playerId = player.getUUID();
-        if (playerMinigameVisibility.get(playerId) != null)
-            playerMinigameVisibility.remove(playerId);
-        if (playerAnvilPositions.get(playerId) != null
-                && pos.equals(playerAnvilPositions.get(playerId))
-        ) {
-            playerAnvilPositions.remove(playerId);
-
+        releaseAnvil(player, player.level(), pos);
+    }
 
+    /**
+     * Frees the anvil if the player is using it. The level is the anvil's, which isn't the
+     * player's own once they've changed dimension.
+     */
+    public static void releaseAnvil(ServerPlayer player, Level level, BlockPos pos) {
+        UUID playerId = player.getUUID();
+        if (AnvilOccupancy.get(level).release(playerId, AnvilOccupancy.key(level, pos))) {
             // 1. Clear ownership from the block entity (server-side)
-            BlockEntity be = player.level().getBlockEntity(pos);
-            String quality = "perfect";
+            BlockEntity be = level.getBlockEntity(pos);
             if (be instanceof AbstractSmithingAnvilBlockEntity anvilBE) {
                 anvilBE.clearOwner();
-                quality = anvilBE.minigameQuality();
             }
-            // 3. Clear client-side state
-            ClientAnvilMinigameData.putOccupiedAnvil(pos, null);
-            AnvilMinigameEvents.reset(quality);
-            // 4. Sync null ownership to all clients
+            // 3. Drop the player's minigame session
+            ForgingSession.end(level, pos, playerId);
+            // 4. Sync null ownership to the clients tracking the anvil
             CompoundTag syncData = new CompoundTag();
             syncData.putLong("anvilPos", pos.asLong());
+            syncData.putString("anvilDimension", level.dimension().location().toString());
             syncData.putUUID("anvilOwner", new UUID(0, 0)); // special "no owner" UUID
-            ModMessages.sendToAll(new MinigameSyncS2CPacket(syncData));
+            ModMessages.sendToTrackingBlock(new MinigameSyncS2CPacket(syncData), level, pos);
         }
 
     }
 
-    public static ServerPlayer getUsingPlayer(BlockPos pos) {
-        // Get the server instance
-        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+    @Nullable
+    public static ServerPlayer getUsingPlayer(Level level, BlockPos pos) {
+        MinecraftServer server = level.getServer();
         if (server == null) return null;
 
-        // Iterate through all online players
-        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-            UUID playerId = player.getUUID();
-
-            // Check if this player is using the specified anvil
-            if (playerAnvilPositions.containsKey(playerId) &&
-                    playerAnvilPositions.get(playerId).equals(pos)) {
-                return player;
-            }
-        }
-
-        return null;
+        UUID playerId = AnvilOccupancy.get(level).getUser(level, pos);
+        return playerId != null ? server.getPlayerList().getPlayer(playerId) : null;
     }
 
     @SubscribeEvent
@@ -469,31 +457,9 @@ public class ModItemInteractEvents {
                         event.setCanceled(true);
                         return;
                     }
-                    Item item = stack.getItem();
-// Check blacklist
-                    ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
-                    List<? extends String> blacklist = ServerConfig.GRINDING_BLACKLIST.get();
-
-                    for (String entry : blacklist) {
-                        if (entry.startsWith("#")) {
-                            // Handle tag-based blacklist entries
-                            ResourceLocation tagId = new ResourceLocation(entry.substring(1));
-                            TagKey<Item> tag = TagKey.create(Registries.ITEM, tagId);
-                            if (stack.is(tag)) {
-                                event.setCancellationResult(InteractionResult.PASS);
-                                event.setCanceled(true);
-                                return;
-                            }
-                        } else {
-                            // Handle direct item blacklist entries
-                            if (itemId != null && itemId.equals(new ResourceLocation(entry))) {
-                                event.setCancellationResult(InteractionResult.PASS);
-                                event.setCanceled(true);
-                                return;
-                            }
-                        }
-                    }
-                    boolean isBlacklisted = GrindingBlacklistReloadListener.isBlacklisted(stack);
+                    // Check blacklist
+                    boolean isBlacklisted = ItemBlacklist.grindingConfig().contains(stack)
+                            || GrindingBlacklistReloadListener.isBlacklisted(stack);
                     if (isBlacklisted) {
                         event.setCancellationResult(InteractionResult.PASS);
                         event.setCanceled(true);
@@ -510,10 +476,7 @@ public class ModItemInteractEvents {
                     float grindReduction = ServerConfig.DURABILITY_REDUCE_PER_GRIND.get().floatValue();
 
                     // Quality multiplier (if any)
-                    float qualityMultiplier = 1.0f;
-                    if (tag.contains("ForgingQuality")) {
-                        qualityMultiplier = QualityHelper.getQualityMultiplier(stack);
-                    }
+                    float qualityMultiplier = QualityHelper.getQualityMultiplier(stack);
                     int newOriginalDurability = (int) (originalDurability * baseMultiplier * qualityMultiplier);
 
                     // Final durability multiplier, clamped to 10% minimum
@@ -700,7 +663,7 @@ public class ModItemInteractEvents {
     }
 
 
-    private static void coolItemEntity(ItemEntity entity) {
+    public static void coolItemEntity(ItemEntity entity) {
         ItemStack stack = entity.getItem();
         Level level = entity.level();
 
@@ -764,192 +727,96 @@ public class ModItemInteractEvents {
     private static Item getGrindable(@Nullable Item heatedItem, @NotNull Level level) {
         if (heatedItem == null || level == null) return null;
 
-        // Wrap the single item in a container for recipe matching
-        SimpleContainer container = new SimpleContainer(new ItemStack(heatedItem));
-
-        // Find the first matching GrindingRecipe
-        Optional<GrindingRecipe> recipeOpt = level.getRecipeManager()
-                .getAllRecipesFor(ModRecipeTypes.GRINDING_RECIPE.get())
-                .stream()
-                .filter(r -> r.matches(container, level))
-                .findFirst();
-
-        if (recipeOpt.isEmpty()) {
-            return heatedItem; // no grinding recipe found
-        }
-
-        // Return the result item from the recipe
-        GrindingRecipe recipe = recipeOpt.get();
-        ItemStack result = recipe.getResultItem(level.registryAccess());
-        return result.isEmpty() ? heatedItem : result.getItem();
+        Item ground = ItemConversionTable.grinding(level.getRecipeManager()).get(heatedItem);
+        return ground == null ? heatedItem : ground; // no grinding recipe found
     }
 
     public static boolean hasCoolingRecipe(@Nullable Item heatedItem, @NotNull Level level) {
         if (heatedItem == null) return false;
-
-        // Wrap the item in a container for recipe matching
-        SimpleContainer container = new SimpleContainer(new ItemStack(heatedItem));
-
-        // Find the first matching CoolingRecipe
-        Optional<CoolingRecipe> recipeOpt = level.getRecipeManager()
-                .getAllRecipesFor(ModRecipeTypes.COOLING_RECIPE.get())
-                .stream()
-                .filter(r -> r.matches(container, level))
-                .findFirst();
-
-        // Return true if a recipe exists and produces a non-empty result
-        return recipeOpt.map(recipe -> !recipe.getResultItem(level.registryAccess()).isEmpty())
-                .orElse(false);
+        return ItemConversionTable.cooling(level.getRecipeManager()).contains(heatedItem);
     }
 
     public static boolean hasGrindingRecipe(@Nullable Item heatedItem, @NotNull Level level) {
         if (heatedItem == null) return false;
-
-        // Wrap the item in a container for recipe matching
-        SimpleContainer container = new SimpleContainer(new ItemStack(heatedItem));
-
-        // Find the first matching GrindingRecipe
-        Optional<GrindingRecipe> recipeOpt = level.getRecipeManager()
-                .getAllRecipesFor(ModRecipeTypes.GRINDING_RECIPE.get())
-                .stream()
-                .filter(r -> r.matches(container, level))
-                .findFirst();
-
-        // Return true if a recipe exists and produces a non-empty result
-        return recipeOpt.map(recipe -> !recipe.getResultItem(level.registryAccess()).isEmpty())
-                .orElse(false);
+        return ItemConversionTable.grinding(level.getRecipeManager()).contains(heatedItem);
     }
 
-    private static final Map<ServerLevel, List<ItemEntity>> trackedEntitiesPerWorld = new HashMap<>();
-
+    // Attaches a ContainerHeatWatch slot listener, woken by the HeatExpiryScheduler when a stack is due
     @SubscribeEvent
-    public static void onEntityJoin(EntityJoinLevelEvent event) {
-        if (!(event.getEntity() instanceof ItemEntity itemEntity)) return;
-
-        ItemStack stack = itemEntity.getItem();
-        boolean isHeatedItem = stack.hasTag() && stack.getTag().getBoolean("Heated");
-        Item cooled = getCooledItem(stack.getItem(), event.getLevel());
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) return;
 
-        if (hasCoolingRecipe(stack.getItem(), event.getLevel()) || isHeatedItem) {
-            // Only track if cooled ingot exists or item is heated
-            if (!(event.getLevel() instanceof ServerLevel serverLevel)) return;
+        AbstractContainerMenu menu = event.getContainer();
+        if (menu == player.inventoryMenu) return;
 
-            // Track per world
-            trackedEntitiesPerWorld
-                    .computeIfAbsent(serverLevel, w -> new ArrayList<>())
-                    .add(itemEntity);
-
-            // Only track items that already have HeatedSince
-            if (stack.hasTag() && stack.getTag().contains("HeatedSince")) {
-                long heatedSince = stack.getTag().getLong("HeatedSince");
-                trackedSinceMs.put(itemEntity, heatedSince);
-            }
-        }
+        // The menu keeps the watch alive, the scheduler only holds it weakly
+        ContainerHeatWatch watch = new ContainerHeatWatch(player, menu);
+        menu.addSlotListener(watch);
+        watch.scheduleNext(player.serverLevel());
     }
 
-    @SubscribeEvent
-    public static void onEntityPickupItem(EntityItemPickupEvent event) {
-        if (!(event.getItem().level instanceof ServerLevel serverLevel)) return;
-
-        List<ItemEntity> tracked = trackedEntitiesPerWorld.get(serverLevel);
-        if (tracked != null) {
-            tracked.remove(event.getItem());
-            if (tracked.isEmpty()) trackedEntitiesPerWorld.remove(serverLevel);
+    /**
+     * Cools heated stacks in one open container once they're due. Woken by the
+     * HeatExpiryScheduler for the earliest stack, and rescheduled when a slot changes.
+     */
+    private static class ContainerHeatWatch implements ContainerListener, HeatExpiryScheduler.Handle {
+        private final ServerPlayer player;
+        private final AbstractContainerMenu menu;
+        private long scheduledTick = Long.MAX_VALUE;
+
+        private ContainerHeatWatch(ServerPlayer player, AbstractContainerMenu menu) {
+            this.player = player;
+            this.menu = menu;
         }
 
-        trackedSinceMs.remove(event.getItem());
-    }
-
-    private static final Map<Item, Boolean> COOLING_CACHE = new HashMap<>();
-
-    private static boolean hasCoolingRecipeCached(Item item, Level level) {
-        return COOLING_CACHE.computeIfAbsent(item, (i) ->
-                hasCoolingRecipe(i, level)   // your existing function
-        );
-    }
-
-    @SubscribeEvent
-    public static void onServerTick(TickEvent.ServerTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) return;
-
-        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-        if (server == null) return;
+        private boolean isOpen() {
+            return !player.isRemoved() && player.containerMenu == menu;
+        }
 
-        // Iterate over all loaded worlds
-        for (ServerLevel level : server.getAllLevels()) {
-            long now = level.getGameTime();
+        private void schedule(ServerLevel level, long dueTick) {
+            // Already waking up in time for this stack
+            if (dueTick >= scheduledTick) return;
 
-            // Only run every 10 ticks
-            if (now % 10 != 0) continue;
-            // Check all online players
+            scheduledTick = dueTick;
+            HeatExpiryScheduler.schedule(level, dueTick, this);
+        }
 
-            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                // Also check any open container
-                if (player.containerMenu != null && player.containerMenu != player.inventoryMenu) {
-                    checkContainerMenu(player, player.containerMenu);
+        private void scheduleNext(ServerLevel level) {
+            int cooldown = ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get();
+            long next = Long.MAX_VALUE;
+            for (Slot slot : menu.slots) {
+                CompoundTag tag = slot.getItem().getTag();
+                if (tag != null && tag.contains("HeatedSince")) {
+                    next = Math.min(next, tag.getLong("HeatedSince") + cooldown);
                 }
             }
+            if (next != Long.MAX_VALUE) {
+                schedule(level, next);
+            }
+        }
 
-            List<ItemEntity> tracked = trackedEntitiesPerWorld.get(level);
-            if (tracked == null || tracked.isEmpty()) continue;
-
-            Iterator<ItemEntity> it = tracked.iterator();
-
-            while (it.hasNext()) {
-                ItemEntity entity = it.next();
-                if (!entity.isAlive()) {
-                    it.remove();
-                    trackedSinceMs.remove(entity);
-                    continue;
-                }
-
-                ItemStack stack = entity.getItem();
-
-                // --- Check if heated ---
-                boolean isHeated = (stack.hasTag() && stack.getTag().getBoolean("Heated"))
-                        || hasCoolingRecipeCached(stack.getItem(), level);
-
-                if (!isHeated) {
-                    it.remove();
-                    trackedSinceMs.remove(entity);
-                    continue;
-                }
-
-                Long started = trackedSinceMs.get(entity);
-                boolean cooled = false;
-
-                // --- Time-based cooling ---
-                if (started != null && now - started > ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get()) {
-                    cooled = true;
-                }
-
-                // --- Water-based cooling ---
-                BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(
-                        entity.getX(), entity.getY(), entity.getZ());
+        @Override
+        public void onHeatExpired(ServerLevel level, long tick) {
+            if (!isOpen() || player.serverLevel() != level) return;
+            if (tick < scheduledTick) return; // Superseded by an earlier wake-up that already ran
 
-                BlockState state = level.getBlockState(pos);
-                if (state.is(Blocks.WATER) || state.is(Blocks.WATER_CAULDRON)) {
-                    cooled = true;
-                }
-
-                if (cooled) {
-                    // Cool entire stack
-                    coolItemEntity(entity);
+            scheduledTick = Long.MAX_VALUE;
+            checkContainerMenu(player, menu);
+            scheduleNext(level);
+        }
 
-                    // Clear timestamp
-                    trackedSinceMs.remove(entity);
+        @Override
+        public void slotChanged(AbstractContainerMenu changedMenu, int slotIndex, ItemStack stack) {
+            if (!isOpen()) return;
 
-                    // Remove entity if stack is empty
-                    if (entity.getItem().isEmpty()) {
-                        it.remove();
-                    }
-                }
+            CompoundTag tag = stack.getTag();
+            if (tag != null && tag.contains("HeatedSince")) {
+                schedule(player.serverLevel(), tag.getLong("HeatedSince") + ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get());
             }
+        }
 
-            // Clean up empty lists to avoid memory leaks
-            if (tracked.isEmpty()) {
-                trackedEntitiesPerWorld.remove(level);
-            }
+        @Override
+        public void dataChanged(AbstractContainerMenu changedMenu, int dataSlotIndex, int value) {
         }
     }
 
@@ -1022,6 +889,7 @@ public class ModItemInteractEvents {
 
         // Update the slot
         slot.set(cooledStack);
+        OvergearedPerf.count(OvergearedPerf.Counter.COOLING_CONVERSIONS);
     }
 
     @SubscribeEvent
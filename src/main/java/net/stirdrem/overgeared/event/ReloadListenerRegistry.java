@@ -1,9 +1,16 @@
 package net.stirdrem.overgeared.event;
 
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
 import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.stirdrem.overgeared.datapack.*;
+import net.stirdrem.overgeared.recipe.ForgingRecipeIndex;
+import net.stirdrem.overgeared.recipe.ItemConversionTable;
+import net.stirdrem.overgeared.recipe.KnappingRecipeTable;
+import net.stirdrem.overgeared.util.MaterialTable;
 
 @Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class ReloadListenerRegistry {
@@ -17,4 +24,24 @@ public class ReloadListenerRegistry {
         event.addListener(new MaterialSettingsReloadListener());
         event.addListener(new KnappingResourceReloadListener());
     }
+
+    // Recipe indexes and the material table expand tags, so they have to be rebuilt once tags are bound
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        ForgingRecipeIndex.invalidate();
+        ItemConversionTable.invalidate();
+        KnappingRecipeTable.invalidate();
+        MaterialTable.invalidate();
+    }
+
+    @Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    public static class Client {
+        // The client reuses its RecipeManager instance, so a resync has to drop the indexes explicitly
+        @SubscribeEvent
+        public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+            ForgingRecipeIndex.invalidate();
+            ItemConversionTable.invalidate();
+            KnappingRecipeTable.invalidate();
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package net.stirdrem.overgeared.heatedtem;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.util.OvergearedPerf;
+import net.stirdrem.overgeared.util.TimingWheel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wakes heated item holders (anvils, open containers, dropped items) on the game tick
+ * their next heated stack cools off, instead of having each of them poll. One timing
+ * wheel per level, handles are held weakly so nothing has to unregister.
+ */
+@Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
+public class HeatExpiryScheduler {
+    private static final Map<ServerLevel, TimingWheel<Handle>> WHEELS = new HashMap<>();
+
+    public interface Handle {
+        /**
+         * Called on the scheduled tick. Implementations cool whatever is due and schedule
+         * themselves again for the next heated stack, if any.
+         */
+        void onHeatExpired(ServerLevel level, long tick);
+    }
+
+    public static void schedule(ServerLevel level, long dueTick, Handle handle) {
+        WHEELS.computeIfAbsent(level, l -> new TimingWheel<>(l.getGameTime())).schedule(dueTick, handle);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (!(event.level instanceof ServerLevel level)) return;
+
+        TimingWheel<Handle> wheel = WHEELS.get(level);
+        if (wheel == null) return;
+
+        long now = level.getGameTime();
+        long start = OvergearedPerf.start();
+        wheel.advance(now, handle -> {
+            // Over the tick budget, push it to the next tick rather than drop it
+            if (OvergearedPerf.shouldDefer()) {
+                wheel.schedule(now + 1, handle);
+            } else {
+                handle.onHeatExpired(level, now);
+            }
+        });
+        OvergearedPerf.stop(OvergearedPerf.Subsystem.HEAT_EXPIRY, start);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            WHEELS.remove(level);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.stirdrem.overgeared.heatedtem;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.config.ServerConfig;
+import net.stirdrem.overgeared.event.ModItemInteractEvents;
+import net.stirdrem.overgeared.recipe.ItemConversionTable;
+import net.stirdrem.overgeared.util.OvergearedPerf;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Tracks dropped heated items per level and cools them once their cooldown runs out or
+ * they end up in water. Cooldowns go through the HeatExpiryScheduler, so an item is only
+ * looked at on the tick it's due. Water and water cauldrons are checked every
+ * {@link #WATER_CHECK_INTERVAL} ticks, so a cauldron filled under a resting item still quenches it.
+ */
+@Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
+public class HeatedItemTracker {
+    private static final int WATER_CHECK_INTERVAL = 10;
+    private static final long NOT_SCHEDULED = -1L;
+
+    private static final Map<ServerLevel, LevelTracker> TRACKERS = new HashMap<>();
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        if (!(event.getEntity() instanceof ItemEntity entity)) return;
+        if (!isHeatable(entity.getItem(), level)) return;
+
+        TRACKERS.computeIfAbsent(level, l -> new LevelTracker()).track(entity, level);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (!(event.level instanceof ServerLevel level)) return;
+
+        LevelTracker tracker = TRACKERS.get(level);
+        if (tracker != null) {
+            long start = OvergearedPerf.start();
+            tracker.tick(level);
+            OvergearedPerf.stop(OvergearedPerf.Subsystem.DROPPED_ITEMS, start);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            TRACKERS.remove(level);
+        }
+    }
+
+    /**
+     * Items flagged as heated, or items with a cooling recipe.
+     */
+    private static boolean isHeatable(ItemStack stack, ServerLevel level) {
+        if (stack.isEmpty()) return false;
+        return (stack.hasTag() && stack.getTag().getBoolean("Heated"))
+                || ItemConversionTable.cooling(level.getRecipeManager()).contains(stack.getItem());
+    }
+
+    private static long dueTick(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null || !tag.contains("HeatedSince")) return NOT_SCHEDULED;
+        return tag.getLong("HeatedSince") + ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get() + 1;
+    }
+
+    private static class LevelTracker {
+        private final List<Tracked> tracked = new ArrayList<>();
+        // Set when a water check was due but deferred by the tick budget
+        private boolean waterCheckPending = false;
+
+        private void track(ItemEntity entity, ServerLevel level) {
+            Tracked entry = new Tracked(entity);
+            tracked.add(entry);
+
+            long due = dueTick(entity.getItem());
+            if (due != NOT_SCHEDULED) {
+                HeatExpiryScheduler.schedule(level, due, entry);
+            }
+        }
+
+        private void tick(ServerLevel level) {
+            long now = level.getGameTime();
+
+            if (now % WATER_CHECK_INTERVAL == 0) waterCheckPending = true;
+            if (!waterCheckPending || OvergearedPerf.shouldDefer()) return;
+            waterCheckPending = false;
+
+            // Water-based cooling
+            Iterator<Tracked> it = tracked.iterator();
+            while (it.hasNext()) {
+                Tracked entry = it.next();
+                ItemEntity entity = entry.get();
+                if (entity == null || entity.isRemoved() || entry.done || !isHeatable(entity.getItem(), level)) {
+                    entry.done = true;
+                    it.remove();
+                    continue;
+                }
+
+                if (entity.isInWater() || level.getBlockState(entity.blockPosition()).is(Blocks.WATER_CAULDRON)) {
+                    cool(entity, entry, level);
+                    if (entry.done) it.remove();
+                }
+            }
+        }
+
+        private static void cool(ItemEntity entity, Tracked entry, ServerLevel level) {
+            ModItemInteractEvents.coolItemEntity(entity);
+            OvergearedPerf.count(OvergearedPerf.Counter.COOLING_CONVERSIONS);
+            entry.done = entity.getItem().isEmpty() || !isHeatable(entity.getItem(), level);
+        }
+    }
+
+    private static class Tracked extends WeakReference<ItemEntity> implements HeatExpiryScheduler.Handle {
+        private boolean done = false;
+
+        private Tracked(ItemEntity entity) {
+            super(entity);
+        }
+
+        // Time-based cooling, the scheduler only calls this once the item is due
+        @Override
+        public void onHeatExpired(ServerLevel level, long tick) {
+            ItemEntity entity = get();
+            if (entity == null || entity.isRemoved() || done) return;
+
+            // The stack may have changed since it was scheduled (merged or re-heated)
+            long due = dueTick(entity.getItem());
+            if (due == NOT_SCHEDULED) return;
+            if (due > tick) {
+                HeatExpiryScheduler.schedule(level, due, this);
+                return;
+            }
+            LevelTracker.cool(entity, this, level);
+        }
+    }
+}
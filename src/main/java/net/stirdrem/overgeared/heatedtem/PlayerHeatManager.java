@@ -0,0 +1,216 @@
+package net.stirdrem.overgeared.heatedtem;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.Mod;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.config.ServerConfig;
+import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.util.OvergearedPerf;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static net.stirdrem.overgeared.OvergearedMod.getCooledItem;
+
+/**
+ * Handles heated items carried by players: starts their cooldown, swaps them for the
+ * cooled item once it runs out, and burns players that hold them without tongs.
+ * The inventory is only walked when it changed, when the next heated stack is due,
+ * or once every {@link #RESCAN_INTERVAL} ticks as a fallback.
+ */
+@Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
+public class PlayerHeatManager {
+    private static final int RESCAN_INTERVAL = 20;
+    private static final String HEATED_TIME_TAG = "HeatedSince";
+    private static final String HEATED_TAG = "Heated";
+
+    private static final Map<UUID, HeatState> STATES = new HashMap<>();
+
+    @SubscribeEvent
+    public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (event.side == LogicalSide.CLIENT) return;
+        if (!(event.player instanceof ServerPlayer player)) return;
+
+        HeatState state = STATES.computeIfAbsent(player.getUUID(), uuid -> new HeatState());
+        state.attach(player);
+
+        Level level = player.level();
+        long tick = level.getGameTime();
+
+        long start = OvergearedPerf.start();
+        // A deferred scan keeps its due tick and runs on the next tick with budget left
+        if ((state.dirty || tick >= state.nextScan) && !OvergearedPerf.shouldDefer()) {
+            scanInventory(player, state, tick);
+        }
+
+        if (state.carriesHot) {
+            applyHeatDamage(player, tick);
+        }
+        OvergearedPerf.stop(OvergearedPerf.Subsystem.PLAYER_HEAT, start);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        STATES.remove(event.getEntity().getUUID());
+    }
+
+    private static void scanInventory(ServerPlayer player, HeatState state, long tick) {
+        Level level = player.level();
+        int cooldownTicks = ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get();
+        List<ItemStack> items = player.getInventory().items;
+
+        long nextExpiry = Long.MAX_VALUE;
+        boolean hot = false;
+        state.dirty = false;
+
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack stack = items.get(i);
+            if (stack.isEmpty()) continue;
+
+            boolean heatedMetal = stack.is(ModTags.Items.HEATED_METALS);
+            boolean heatedTag = stack.hasTag() && stack.getTag().contains(HEATED_TAG);
+            if (!heatedMetal && !heatedTag) {
+                if (stack.is(ModTags.Items.HOT_ITEMS)) hot = true;
+                continue;
+            }
+
+            CompoundTag tag = stack.getOrCreateTag();
+            long heatedSince = tag.getLong(HEATED_TIME_TAG);
+            if (heatedSince == 0L) {
+                tag.putLong(HEATED_TIME_TAG, tick); // Initialize the timestamp
+                heatedSince = tick;
+            } else if (tick - heatedSince >= cooldownTicks && coolStack(player, level, stack)) {
+                // The cooled replacement may land in a slot we already passed
+                state.dirty = true;
+                continue;
+            }
+
+            hot = true;
+            nextExpiry = Math.min(nextExpiry, heatedSince + cooldownTicks);
+        }
+
+        ItemStack off = player.getOffhandItem();
+        if (off.is(ModTags.Items.HEATED_METALS) || off.is(ModTags.Items.HOT_ITEMS)) {
+            hot = true;
+        }
+
+        state.carriesHot = hot;
+        // Wake up again when the next heated stack is due, or on the fallback interval
+        state.nextScan = state.dirty
+                ? tick + 1
+                : Math.min(tick + RESCAN_INTERVAL, Math.max(nextExpiry, tick + 1));
+    }
+
+    private static boolean coolStack(ServerPlayer player, Level level, ItemStack stack) {
+        Item cooled = getCooledItem(stack.getItem(), level);
+        if (cooled == null) return false;
+
+        ItemStack newStack = new ItemStack(cooled, stack.getCount());
+        if (stack.hasTag()) {
+            CompoundTag newtag = stack.getTag().copy();
+
+            // Remove heated-related tags
+            newtag.remove(HEATED_TAG);
+            newtag.remove(HEATED_TIME_TAG);
+
+            if (!newtag.isEmpty()) {
+                newStack.setTag(newtag);
+            }
+        }
+        boolean isMain = stack == player.getMainHandItem();
+        boolean isOff = stack == player.getOffhandItem();
+
+        stack.setCount(0); // Remove old heated item
+
+        if (isMain) {
+            player.setItemInHand(InteractionHand.MAIN_HAND, newStack);
+        } else if (isOff) {
+            player.setItemInHand(InteractionHand.OFF_HAND, newStack);
+        } else if (!player.getInventory().add(newStack)) {
+            player.drop(newStack, false); // Drop if inventory is full
+        }
+
+        level.playSound(null, player.blockPosition(), SoundEvents.FIRE_EXTINGUISH, SoundSource.PLAYERS, 0.7f, 1.0f);
+        OvergearedPerf.count(OvergearedPerf.Counter.COOLING_CONVERSIONS);
+        return true;
+    }
+
+    private static void applyHeatDamage(ServerPlayer player, long tick) {
+        ItemStack main = player.getMainHandItem();
+        ItemStack off = player.getOffhandItem();
+
+        // Check for tongs in either hand
+        ItemStack tongsStack;
+        if (!main.isEmpty() && main.getItem().builtInRegistryHolder().is(ModTags.Items.TONGS)) {
+            tongsStack = main;
+        } else if (!off.isEmpty() && off.getItem().builtInRegistryHolder().is(ModTags.Items.TONGS)) {
+            tongsStack = off;
+        } else {
+            tongsStack = ItemStack.EMPTY;
+        }
+
+        if (!tongsStack.isEmpty()) {
+            if (tick % 40 != 0) return;
+            tongsStack.hurtAndBreak(1, player, p -> {
+                // Determine correct hand
+                InteractionHand hand = tongsStack == player.getMainHandItem() ? InteractionHand.MAIN_HAND : InteractionHand.OFF_HAND;
+                p.broadcastBreakEvent(hand);
+            });
+        } else if (!player.hasEffect(MobEffects.FIRE_RESISTANCE)) {
+            player.hurt(player.damageSources().hotFloor(), 1.0f);
+        }
+    }
+
+    private static class HeatState implements ContainerListener {
+        private boolean carriesHot = false;
+        private boolean dirty = true;
+        private long nextScan = 0L;
+        private AbstractContainerMenu inventoryMenu;
+        private AbstractContainerMenu containerMenu;
+
+        // Menus are replaced on respawn and when containers are opened, so re-hook when they differ
+        private void attach(ServerPlayer player) {
+            if (inventoryMenu != player.inventoryMenu) {
+                inventoryMenu = player.inventoryMenu;
+                inventoryMenu.addSlotListener(this);
+                dirty = true;
+            }
+            if (containerMenu != player.containerMenu) {
+                containerMenu = player.containerMenu;
+                if (containerMenu != inventoryMenu) {
+                    containerMenu.addSlotListener(this);
+                }
+            }
+        }
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int slotIndex, ItemStack stack) {
+            // Container menus also report their own slots, only the player's inventory matters here
+            if (menu.getSlot(slotIndex).container instanceof Inventory) {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int dataSlotIndex, int value) {
+        }
+    }
+}
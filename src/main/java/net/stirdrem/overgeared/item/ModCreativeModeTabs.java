@@ -4,6 +4,7 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.CreativeModeTab;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.alchemy.Potion;
@@ -18,6 +19,9 @@ import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.block.ModBlocks;
 import net.stirdrem.overgeared.config.ServerConfig;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ModCreativeModeTabs {
     public static final DeferredRegister<CreativeModeTab> CREATIVE_MODE_TABS =
             DeferredRegister.create(Registries.CREATIVE_MODE_TAB, OvergearedMod.MOD_ID);
@@ -154,57 +158,7 @@ public class ModCreativeModeTabs {
                                 output.accept(ModItems.STEEL_UPGRADE_ARROW.get());
                                 output.accept(ModItems.DIAMOND_UPGRADE_ARROW.get());
 
-                                for (Potion potion : ForgeRegistries.POTIONS) {
-                                    if (potion == Potions.EMPTY) continue;
-
-                                    ItemStack arrow = new ItemStack(Items.TIPPED_ARROW);
-                                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                                    output.accept(arrow);
-                                }
-
-                                for (Potion potion : ForgeRegistries.POTIONS) {
-                                    if (potion == Potions.EMPTY) continue;
-
-                                    ItemStack arrow = new ItemStack(ModItems.LINGERING_ARROW.get());
-                                    arrow.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                                    output.accept(arrow);
-                                }
-
-                                for (Potion potion : ForgeRegistries.POTIONS) {
-                                    if (potion == Potions.EMPTY) continue;
-
-                                    ItemStack iron = new ItemStack(ModItems.IRON_UPGRADE_ARROW.get());
-                                    iron.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                                    output.accept(iron);
-
-                                    ItemStack ironLingering = iron.copy();
-                                    ironLingering.getOrCreateTag().putBoolean("LingeringPotion", true);
-                                    output.accept(ironLingering);
-                                }
-
-                                for (Potion potion : ForgeRegistries.POTIONS) {
-                                    if (potion == Potions.EMPTY) continue;
-
-                                    ItemStack steel = new ItemStack(ModItems.STEEL_UPGRADE_ARROW.get());
-                                    steel.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                                    output.accept(steel);
-
-                                    ItemStack steelLingering = steel.copy();
-                                    steelLingering.getOrCreateTag().putBoolean("LingeringPotion", true);
-                                    output.accept(steelLingering);
-                                }
-
-                                for (Potion potion : ForgeRegistries.POTIONS) {
-                                    if (potion == Potions.EMPTY) continue;
-
-                                    ItemStack diamond = new ItemStack(ModItems.DIAMOND_UPGRADE_ARROW.get());
-                                    diamond.getOrCreateTag().putString("Potion", ForgeRegistries.POTIONS.getKey(potion).toString());
-                                    output.accept(diamond);
-
-                                    ItemStack diamondLingering = diamond.copy();
-                                    diamondLingering.getOrCreateTag().putBoolean("LingeringPotion", true);
-                                    output.accept(diamondLingering);
-                                }
+                                getArrowsTabArrows().forEach(output::accept);
                             })
                             .build());
 
@@ -232,6 +186,78 @@ public class ModCreativeModeTabs {
                     })
                     .build());
 
+    // Potion arrow variants, built on first use and reused on every tab rebuild since
+    // potions can't be added after startup. The stacks are shared, don't modify them.
+    private static List<ItemStack> arrowsTabArrows;
+    private static List<ItemStack> combatTabArrows;
+
+    private static synchronized List<ItemStack> getArrowsTabArrows() {
+        if (arrowsTabArrows == null) {
+            List<String> potions = potionIds();
+            List<ItemStack> stacks = new ArrayList<>();
+            for (String potion : potions) {
+                stacks.add(potionArrow(Items.TIPPED_ARROW, potion, false));
+            }
+            for (String potion : potions) {
+                stacks.add(potionArrow(ModItems.LINGERING_ARROW.get(), potion, false));
+            }
+            for (Item arrow : upgradeArrows()) {
+                for (String potion : potions) {
+                    stacks.add(potionArrow(arrow, potion, false));
+                    stacks.add(potionArrow(arrow, potion, true));
+                }
+            }
+            arrowsTabArrows = List.copyOf(stacks);
+        }
+        return arrowsTabArrows;
+    }
+
+    /**
+     * Potion arrows added to the vanilla combat tab.
+     */
+    public static synchronized List<ItemStack> getCombatTabArrows() {
+        if (combatTabArrows == null) {
+            List<String> potions = potionIds();
+            List<ItemStack> stacks = new ArrayList<>();
+            for (String potion : potions) {
+                stacks.add(potionArrow(ModItems.LINGERING_ARROW.get(), potion, false));
+            }
+            for (Item arrow : upgradeArrows()) {
+                for (String potion : potions) {
+                    stacks.add(potionArrow(arrow, potion, false));
+                }
+                for (String potion : potions) {
+                    stacks.add(potionArrow(arrow, potion, true));
+                }
+            }
+            combatTabArrows = List.copyOf(stacks);
+        }
+        return combatTabArrows;
+    }
+
+    private static List<Item> upgradeArrows() {
+        return List.of(ModItems.IRON_UPGRADE_ARROW.get(), ModItems.STEEL_UPGRADE_ARROW.get(),
+                ModItems.DIAMOND_UPGRADE_ARROW.get());
+    }
+
+    private static List<String> potionIds() {
+        List<String> ids = new ArrayList<>();
+        for (Potion potion : ForgeRegistries.POTIONS) {
+            if (potion == Potions.EMPTY) continue;
+            ids.add(ForgeRegistries.POTIONS.getKey(potion).toString());
+        }
+        return ids;
+    }
+
+    private static ItemStack potionArrow(Item arrow, String potion, boolean lingering) {
+        ItemStack stack = new ItemStack(arrow);
+        stack.getOrCreateTag().putString("Potion", potion);
+        if (lingering) {
+            stack.getOrCreateTag().putBoolean("LingeringPotion", true);
+        }
+        return stack;
+    }
+
     public static void register(IEventBus eventBus) {
         CREATIVE_MODE_TABS.register(eventBus);
     }
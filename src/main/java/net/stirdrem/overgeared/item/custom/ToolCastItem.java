@@ -6,6 +6,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -16,6 +17,7 @@ import net.minecraft.world.inventory.ClickAction;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
 import net.stirdrem.overgeared.BlueprintQuality;
@@ -28,6 +30,10 @@ import java.util.List;
 import java.util.function.Supplier;
 
 public class ToolCastItem extends Item {
+    private static final String INPUTS = "Inputs";
+    private static final String INPUT_STACKS = "InputStacks";
+    private static final String LEGACY_INPUT = "input";
+
     private final boolean allowMaterialInsert;
     private final boolean haveDurability;
 
@@ -80,7 +86,7 @@ public class ToolCastItem extends Item {
 
                 tag.remove("Output");
                 tag.remove("Materials");
-                tag.remove("input");
+                clearInputs(tag);
                 tag.remove("Heated");
                 tag.putInt("Amount", 0);
 
@@ -118,7 +124,7 @@ public class ToolCastItem extends Item {
 
         tag.put("Materials", new CompoundTag());
         tag.putInt("Amount", 0);
-        tag.remove("input");
+        clearInputs(tag);
 
         return InteractionResultHolder.sidedSuccess(
                 castStack,
@@ -163,9 +169,6 @@ public class ToolCastItem extends Item {
         if (material.isEmpty()) return false;
 
         CompoundTag tag = cast.getOrCreateTag();
-        ListTag list = tag.getList("input", Tag.TAG_COMPOUND);
-
-        String itemId = BuiltInRegistries.ITEM.getKey(material.getItem()).toString();
 
         if (!ConfigHelper.isValidMaterial(material)) {
             player.displayClientMessage(Component.translatable("message.overgeared.invalid_material"), true);
@@ -189,27 +192,9 @@ public class ToolCastItem extends Item {
         mats.putInt(mat, prev + value);
         tag.put("Materials", mats);
 
-        for (int i = 0; i < list.size(); i++) {
-            CompoundTag entry = list.getCompound(i);
-            ItemStack entryStack = ItemStack.of(entry);
-
-            if (ItemStack.isSameItemSameTags(entryStack, material)) {
-                entryStack.grow(1);
-                entryStack.save(entry);
-                list.set(i, entry);
-
-                tag.put("input", list);
-                tag.putInt("Amount", amount + value);
-                playInsertSound(player);
-                return true;
-            }
-        }
-
         ItemStack stored = material.copy();
         stored.setCount(1);
-        list.add(stored.save(new CompoundTag()));
-
-        tag.put("input", list);
+        addInputs(tag, List.of(stored));
         tag.putInt("Amount", amount + value);
 
         playInsertSound(player);
@@ -227,25 +212,108 @@ public class ToolCastItem extends Item {
     }
 
     private List<ItemStack> getInputItemsFromCast(ItemStack cast) {
-        List<ItemStack> items = new ArrayList<>();
         CompoundTag tag = cast.getTag();
+        return tag == null ? List.of() : getInputs(tag);
+    }
 
-        if (tag != null && tag.contains("input", Tag.TAG_LIST)) {
-            ListTag inputList = tag.getList("input", Tag.TAG_COMPOUND);
+    /*
+     * Inputs are kept as "Inputs", item id -> count, for plain items, and as full stacks in
+     * "InputStacks" only for items that carry NBT. Casts filled before that still have every
+     * input as a full stack in the old "input" list, which is read as is and converted the next
+     * time inputs get added.
+     */
+
+    /**
+     * Every input item stored in the cast, one stack per distinct item.
+     */
+    public static List<ItemStack> getInputs(CompoundTag tag) {
+        List<ItemStack> items = new ArrayList<>();
 
-            for (Tag inputTag : inputList) {
-                if (inputTag instanceof CompoundTag) {
-                    ItemStack item = ItemStack.of((CompoundTag) inputTag);
-                    if (!item.isEmpty()) {
-                        items.add(item);
-                    }
-                }
+        CompoundTag counts = tag.getCompound(INPUTS);
+        for (String id : counts.getAllKeys()) {
+            ResourceLocation key = ResourceLocation.tryParse(id);
+            Item item = key == null ? Items.AIR : BuiltInRegistries.ITEM.get(key);
+            int count = counts.getInt(id);
+            if (item != Items.AIR && count > 0) {
+                items.add(new ItemStack(item, count));
             }
         }
+        readStacks(tag.getList(INPUT_STACKS, Tag.TAG_COMPOUND), items);
+        readStacks(tag.getList(LEGACY_INPUT, Tag.TAG_COMPOUND), items);
 
         return items;
     }
 
+    /**
+     * Adds the given stacks to the cast's inputs, merging them with identical items already in it.
+     */
+    public static void addInputs(CompoundTag tag, List<ItemStack> added) {
+        List<ItemStack> withTags = new ArrayList<>();
+        readStacks(tag.getList(INPUT_STACKS, Tag.TAG_COMPOUND), withTags);
+
+        CompoundTag counts = tag.getCompound(INPUTS);
+        // Pre-compact casts get folded into the new layout on their first change
+        List<ItemStack> pending = new ArrayList<>();
+        readStacks(tag.getList(LEGACY_INPUT, Tag.TAG_COMPOUND), pending);
+        pending.addAll(added);
+
+        for (ItemStack stack : pending) {
+            if (stack.isEmpty()) continue;
+
+            if (!stack.hasTag()) {
+                String id = BuiltInRegistries.ITEM.getKey(stack.getItem()).toString();
+                counts.putInt(id, counts.getInt(id) + stack.getCount());
+                continue;
+            }
+
+            ItemStack existing = null;
+            for (ItemStack candidate : withTags) {
+                if (ItemStack.isSameItemSameTags(candidate, stack)) {
+                    existing = candidate;
+                    break;
+                }
+            }
+            if (existing != null) {
+                existing.grow(stack.getCount());
+            } else {
+                withTags.add(stack.copy());
+            }
+        }
+
+        tag.remove(LEGACY_INPUT);
+        if (!counts.isEmpty()) {
+            tag.put(INPUTS, counts);
+        }
+        if (!withTags.isEmpty()) {
+            ListTag list = new ListTag();
+            for (ItemStack stack : withTags) {
+                list.add(stack.save(new CompoundTag()));
+            }
+            tag.put(INPUT_STACKS, list);
+        }
+    }
+
+    public static boolean hasInputs(CompoundTag tag) {
+        return !tag.getCompound(INPUTS).isEmpty()
+                || !tag.getList(INPUT_STACKS, Tag.TAG_COMPOUND).isEmpty()
+                || !tag.getList(LEGACY_INPUT, Tag.TAG_COMPOUND).isEmpty();
+    }
+
+    public static void clearInputs(CompoundTag tag) {
+        tag.remove(INPUTS);
+        tag.remove(INPUT_STACKS);
+        tag.remove(LEGACY_INPUT);
+    }
+
+    private static void readStacks(ListTag list, List<ItemStack> into) {
+        for (int i = 0; i < list.size(); i++) {
+            ItemStack stack = ItemStack.of(list.getCompound(i));
+            if (!stack.isEmpty()) {
+                into.add(stack);
+            }
+        }
+    }
+
     @Override
     public boolean isDamageable(ItemStack stack) {
         return haveDurability;
@@ -356,7 +424,7 @@ public class ToolCastItem extends Item {
             );
         }
         if ((tag.contains("Materials", Tag.TAG_COMPOUND) && !tag.getCompound("Materials").isEmpty()) ||
-                (tag.contains("input", Tag.TAG_LIST) && !tag.getList("input", Tag.TAG_COMPOUND).isEmpty()) ||
+                hasInputs(tag) ||
                 tag.contains("Output", Tag.TAG_COMPOUND)) {
             tooltip.add(
                     Component.translatable("tooltip.overgeared.cast_right_click")
@@ -1,31 +1,15 @@
 package net.stirdrem.overgeared.mixin;
 
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.sounds.SoundEvents;
-import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
-import net.minecraft.world.InteractionHand;
-import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.stirdrem.overgeared.OvergearedMod;
-import net.stirdrem.overgeared.config.ServerConfig;
-import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.ForgingQuality;
 import net.stirdrem.overgeared.util.QualityHelper;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.*;
-
-import static net.stirdrem.overgeared.OvergearedMod.getCooledItem;
-
 @Mixin(ItemStack.class)
 public abstract class ItemStackMixin {
     @Inject(
@@ -37,9 +21,9 @@ public abstract class ItemStackMixin {
         ItemStack stack = (ItemStack) (Object) this;
         float baseSpeed = cir.getReturnValueF();
 
-        if (stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-            float multiplier = QualityHelper.getQualityMultiplier(stack);
-            cir.setReturnValue(baseSpeed * multiplier);
+        ForgingQuality quality = ForgingQuality.of(stack);
+        if (quality != ForgingQuality.NONE) {
+            cir.setReturnValue(baseSpeed * QualityHelper.getQualityMultiplier(quality));
         }
     }
 
@@ -56,128 +40,10 @@ public abstract class ItemStackMixin {
             return;
         }
 
-        int originalDurability = cir.getReturnValue();
-        boolean blacklisted = OvergearedMod.isDurabilityBlacklisted(stack);
-
-        float baseMultiplier = ServerConfig.BASE_DURABILITY_MULTIPLIER.get().floatValue();
-        int newBaseDurability = blacklisted ? originalDurability : (int) (originalDurability * baseMultiplier);
-
-        // Apply quality multiplier
-        if (stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-            float multiplier = QualityHelper.getQualityMultiplier(stack);
-            newBaseDurability = (int) (newBaseDurability * multiplier);
-        }
-
-        // Apply durability reductions
-        if (stack.hasTag() && stack.getTag().contains("ReducedMaxDurability")) {
-            int reductions = stack.getTag().getInt("ReducedMaxDurability");
-            float durabilityPenaltyMultiplier = 1.0f - (reductions * ServerConfig.DURABILITY_REDUCE_PER_GRIND.get().floatValue());
-            durabilityPenaltyMultiplier = Math.max(0.1f, durabilityPenaltyMultiplier);
-            newBaseDurability = (int) (newBaseDurability * durabilityPenaltyMultiplier);
-        }
-
-        cir.setReturnValue(newBaseDurability);
+        cir.setReturnValue(QualityHelper.getModifiedMaxDamage(stack, cir.getReturnValue()));
     }
 
 
-    // Per-player last-hit tick
-    private static final Map<UUID, Long> lastTongsHit = new WeakHashMap<>();
-
-    private static final String HEATED_TIME_TAG = "HeatedSince";
-    private static final String HEATED_TAG = "Heated";
-
-    @Inject(method = "inventoryTick", at = @At("HEAD"))
-    private void onInventoryTick(Level level, Entity entity, int slot, boolean selected, CallbackInfo ci) {
-        if (level.isClientSide) return;
-        if (!(entity instanceof Player player)) return;
-        //if (slot != 0) return; // Only process once per player per tick
-
-        long tick = level.getGameTime();
-        int cooldownTicks = ServerConfig.HEATED_ITEM_COOLDOWN_TICKS.get(); // add to your config
-
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.isEmpty()) continue;
-            if (!stack.is(ModTags.Items.HEATED_METALS) && !(stack.hasTag() && stack.getTag().contains("Heated")))
-                continue;
-
-            CompoundTag tag = stack.getOrCreateTag();
-            long heatedSince = tag.getLong(HEATED_TIME_TAG);
-            if (heatedSince == 0L) {
-                tag.putLong(HEATED_TIME_TAG, tick); // Initialize the timestamp
-            } else if (tick - heatedSince >= cooldownTicks) {
-                Item cooled = getCooledItem(stack.getItem(), level);
-                if (cooled != null) {
-                    ItemStack newStack = new ItemStack(cooled, stack.getCount());
-                    if (stack.hasTag()) {
-                        CompoundTag newtag = stack.getTag().copy();
-
-                        // Remove heated-related tags
-                        newtag.remove("Heated");
-                        newtag.remove(HEATED_TIME_TAG);
-
-                        if (!newtag.isEmpty()) {
-                            newStack.setTag(newtag);
-                        }
-                    }
-                    boolean isMain = stack == player.getMainHandItem();
-                    boolean isOff = stack == player.getOffhandItem();
-
-                    stack.setCount(0); // Remove old heated item
-
-                    if (isMain) {
-                        player.setItemInHand(InteractionHand.MAIN_HAND, newStack);
-                    } else if (isOff) {
-                        player.setItemInHand(InteractionHand.OFF_HAND, newStack);
-                    } else if (!player.getInventory().add(newStack)) {
-                        player.drop(newStack, false); // Drop if inventory is full
-                    }
-
-                    level.playSound(null, player.blockPosition(), SoundEvents.FIRE_EXTINGUISH, SoundSource.PLAYERS, 0.7f, 1.0f);
-                }
-            }
-        }
-
-        boolean hasHotItem = player.getInventory().items.stream()
-                .anyMatch(s -> !s.isEmpty() && (s.is(ModTags.Items.HEATED_METALS) || s.is(ModTags.Items.HOT_ITEMS))
-                        || (s.hasTag() && s.getTag().contains("Heated")))
-                || player.getMainHandItem().is(ModTags.Items.HEATED_METALS) || player.getMainHandItem().is(ModTags.Items.HOT_ITEMS)
-                || player.getOffhandItem().is(ModTags.Items.HEATED_METALS) || player.getOffhandItem().is(ModTags.Items.HOT_ITEMS);
-
-        if (!hasHotItem) return;
-
-
-        UUID uuid = player.getUUID();
-        ItemStack main = player.getMainHandItem();
-        ItemStack off = player.getOffhandItem();
-
-        // Check for tongs in either hand
-        ItemStack tongsStack;
-        if (!main.isEmpty() && main.getItem().builtInRegistryHolder().is(ModTags.Items.TONGS)) {
-            tongsStack = main;
-        } else if (!off.isEmpty() && off.getItem().builtInRegistryHolder().is(ModTags.Items.TONGS)) {
-            tongsStack = off;
-        } else {
-            tongsStack = ItemStack.EMPTY;
-        }
-
-        if (!tongsStack.isEmpty()) {
-            if (tick % 40 != 0) return;
-            long last = lastTongsHit.getOrDefault(uuid, -1L);
-            if (last != tick) {
-                tongsStack.hurtAndBreak(1, player, p -> {
-                    // Determine correct hand
-                    InteractionHand hand = tongsStack == player.getMainHandItem() ? InteractionHand.MAIN_HAND : InteractionHand.OFF_HAND;
-                    p.broadcastBreakEvent(hand);
-                });
-                lastTongsHit.put(uuid, tick);
-            }
-        } else {
-            if (!player.hasEffect(MobEffects.FIRE_RESISTANCE)) {
-                player.hurt(player.damageSources().hotFloor(), 1.0f);
-            }
-        }
-    }
-
     @Inject(method = "getBarWidth", at = @At("HEAD"), cancellable = true)
     private void fixDurabilityBar(CallbackInfoReturnable<Integer> cir) {
         ItemStack stack = (ItemStack) (Object) this;
@@ -1,13 +1,18 @@
 package net.stirdrem.overgeared.networking;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.networking.packet.*;
+import net.stirdrem.overgeared.util.OvergearedPerf;
 
 public class ModMessages {
     private static SimpleChannel INSTANCE;
@@ -47,10 +52,10 @@ public class ModMessages {
                 .consumerMainThread(SelectToolTypeC2SPacket::handle)
                 .add();
 
-        net.messageBuilder(PacketSendCounterC2SPacket.class, id(), NetworkDirection.PLAY_TO_SERVER)
-                .encoder(PacketSendCounterC2SPacket::encode)
-                .decoder(PacketSendCounterC2SPacket::decode)
-                .consumerMainThread(PacketSendCounterC2SPacket::handle)
+        net.messageBuilder(MinigameStateS2CPacket.class, id(), NetworkDirection.PLAY_TO_CLIENT)
+                .decoder(MinigameStateS2CPacket::new)
+                .encoder(MinigameStateS2CPacket::toBytes)
+                .consumerMainThread(MinigameStateS2CPacket::handle)
                 .add();
 
         net.messageBuilder(SetMinigameVisibleC2SPacket.class, id(), NetworkDirection.PLAY_TO_SERVER)
@@ -88,6 +93,12 @@ public class ModMessages {
                 .encoder(OnlyResetMinigameS2CPacket::toBytes)
                 .consumerMainThread(OnlyResetMinigameS2CPacket::handle)
                 .add();
+
+        net.messageBuilder(AnvilProgressSyncS2CPacket.class, id(), NetworkDirection.PLAY_TO_CLIENT)
+                .decoder(AnvilProgressSyncS2CPacket::new)
+                .encoder(AnvilProgressSyncS2CPacket::toBytes)
+                .consumerMainThread(AnvilProgressSyncS2CPacket::handle)
+                .add();
     }
 
     public static <MSG> void sendToServer(MSG message) {
@@ -95,10 +106,29 @@ public class ModMessages {
     }
 
     public static <MSG> void sendToPlayer(MSG message, ServerPlayer player) {
+        OvergearedPerf.count(OvergearedPerf.Counter.PACKETS_SENT);
         INSTANCE.send(PacketDistributor.PLAYER.with(() -> player), message);
     }
 
     public static <MSG> void sendToAll(MSG message) {
+        OvergearedPerf.count(OvergearedPerf.Counter.PACKETS_SENT);
         INSTANCE.send(PacketDistributor.ALL.noArg(), message);
     }
-}
\ No newline at end of file
+
+    public static <MSG> void sendToTrackingChunk(MSG message, LevelChunk chunk) {
+        OvergearedPerf.count(OvergearedPerf.Counter.PACKETS_SENT);
+        INSTANCE.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), message);
+    }
+
+    /**
+     * Sends to the players tracking the chunk holding {@code pos}. Skipped when that chunk
+     * isn't loaded, nobody can be tracking it then and it shouldn't be loaded just for a packet.
+     */
+    public static <MSG> void sendToTrackingBlock(MSG message, Level level, BlockPos pos) {
+        LevelChunk chunk = level.getChunkSource().getChunkNow(
+                SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (chunk != null) {
+            sendToTrackingChunk(message, chunk);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.stirdrem.overgeared.networking.packet;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Forging progress of one anvil, sent instead of a full block entity update when the
+ * inventory didn't change.
+ */
+public class AnvilProgressSyncS2CPacket {
+    private final BlockPos pos;
+    private final int progress;
+    private final int maxProgress;
+    private final int hitRemains;
+
+    public AnvilProgressSyncS2CPacket(BlockPos pos, int progress, int maxProgress, int hitRemains) {
+        this.pos = pos;
+        this.progress = progress;
+        this.maxProgress = maxProgress;
+        this.hitRemains = hitRemains;
+    }
+
+    public AnvilProgressSyncS2CPacket(FriendlyByteBuf buf) {
+        this.pos = buf.readBlockPos();
+        this.progress = buf.readVarInt();
+        this.maxProgress = buf.readVarInt();
+        this.hitRemains = buf.readVarInt();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeVarInt(progress);
+        buf.writeVarInt(maxProgress);
+        buf.writeVarInt(hitRemains);
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            var level = Minecraft.getInstance().level;
+            if (level != null && level.getBlockEntity(pos) instanceof AbstractSmithingAnvilBlockEntity anvil) {
+                anvil.applyProgressSync(progress, maxProgress, hitRemains);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+        return true;
+    }
+}
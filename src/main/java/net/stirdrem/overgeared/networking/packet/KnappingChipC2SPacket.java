@@ -3,28 +3,31 @@ package net.stirdrem.overgeared.networking.packet;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.screen.RockKnappingMenu;
 
 import java.util.function.Supplier;
 
+/**
+ * Grid spots the client toggled since its last packet, bit {@code i} for spot {@code i}.
+ * Sent at most once per client tick.
+ */
 public class KnappingChipC2SPacket {
-    private final int index;
+    private final int mask;
 
-    public KnappingChipC2SPacket(int index) {
-        this.index = index;
+    public KnappingChipC2SPacket(int mask) {
+        this.mask = mask & RockKnappingMenu.GRID_MASK;
     }
 
     public KnappingChipC2SPacket(FriendlyByteBuf buf) {
-        this.index = buf.readInt();
+        this(buf.readUnsignedShort());
     }
 
     public static void encode(KnappingChipC2SPacket msg, FriendlyByteBuf buf) {
-        buf.writeInt(msg.index);
+        buf.writeShort(msg.mask);
     }
 
     public static KnappingChipC2SPacket decode(FriendlyByteBuf buf) {
-        return new KnappingChipC2SPacket(buf.readInt());
+        return new KnappingChipC2SPacket(buf);
     }
 
     public boolean handle(Supplier<NetworkEvent.Context> supplier) {
@@ -32,15 +35,11 @@ public class KnappingChipC2SPacket {
         context.enqueueWork(() -> {
             // Server-side handling
             ServerPlayer player = context.getSender();
-            if (player != null && player.containerMenu instanceof RockKnappingMenu menu) {
-                // Validate the index is within bounds
-                if (index >= 0 && index < 9) {
-                    menu.setChip(index);
-                    OvergearedMod.LOGGER.debug("Player {} chipped spot {} in knapping grid", player.getName().getString(), index);
-                }
+            if (player != null && mask != 0 && player.containerMenu instanceof RockKnappingMenu menu) {
+                menu.receiveChips(mask, player.serverLevel().getGameTime());
             }
         });
         context.setPacketHandled(true);
         return true;
     }
-}
\ No newline at end of file
+}
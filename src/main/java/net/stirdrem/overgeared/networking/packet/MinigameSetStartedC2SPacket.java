@@ -6,16 +6,14 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.network.NetworkEvent;
+import net.stirdrem.overgeared.AnvilOccupancy;
+import net.stirdrem.overgeared.ForgingSession;
 import net.stirdrem.overgeared.block.custom.AbstractSmithingAnvilNew;
 import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
-import net.stirdrem.overgeared.event.AnvilMinigameEvents;
 import net.stirdrem.overgeared.networking.ModMessages;
 
 import java.util.function.Supplier;
 
-import static net.stirdrem.overgeared.event.ModItemInteractEvents.playerAnvilPositions;
-import static net.stirdrem.overgeared.event.ModItemInteractEvents.playerMinigameVisibility;
-
 public class MinigameSetStartedC2SPacket {
     private final BlockPos pos;
 
@@ -39,10 +37,12 @@ public class MinigameSetStartedC2SPacket {
                 BlockEntity be = sender.level().getBlockEntity(msg.pos);
                 if (be instanceof AbstractSmithingAnvilBlockEntity anvilEntity) {
                     //anvilEntity.resetProgress(); // or resetProgress(), whichever you want
-                    AnvilMinigameEvents.setMinigameStarted(msg.pos, true);
+                    ForgingSession session = ForgingSession.start(sender.level(), msg.pos, sender.getUUID(),
+                            anvilEntity.minigameQuality(), anvilEntity.getRequiredProgress());
                     ModMessages.sendToPlayer(new MinigameSetStartedS2CPacket(msg.pos), sender);
-                    playerAnvilPositions.put(sender.getUUID(), msg.pos);
-                    playerMinigameVisibility.put(sender.getUUID(), true);
+                    // The client's zones are its own guess until it has the server's
+                    ModMessages.sendToPlayer(new MinigameStateS2CPacket(session, null), sender);
+                    AnvilOccupancy.get(sender.level()).occupy(sender.getUUID(), sender.level(), msg.pos);
                     anvilEntity.setPlayer(sender);
                     anvilEntity.setMinigameOn(true);
                 }
@@ -0,0 +1,45 @@
+package net.stirdrem.overgeared.networking.packet;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import net.stirdrem.overgeared.ForgingSession;
+import net.stirdrem.overgeared.HitResult;
+import net.stirdrem.overgeared.event.AnvilMinigameEvents;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * The smith's server-side session state, sent when the minigame starts or shows again and
+ * after every strike the server judged, with that strike's result.
+ */
+public class MinigameStateS2CPacket {
+    private final CompoundTag state;
+    @Nullable
+    private final HitResult result;
+
+    public MinigameStateS2CPacket(ForgingSession session, @Nullable HitResult result) {
+        this.state = session.saveState();
+        this.result = result;
+    }
+
+    public MinigameStateS2CPacket(FriendlyByteBuf buf) {
+        this.state = buf.readNbt();
+        this.result = buf.readBoolean() ? buf.readEnum(HitResult.class) : null;
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeNbt(state);
+        buf.writeBoolean(result != null);
+        if (result != null) buf.writeEnum(result);
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            if (state != null) AnvilMinigameEvents.applyServerState(state, result);
+        });
+        ctx.get().setPacketHandled(true);
+        return true;
+    }
+}
@@ -5,10 +5,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.network.NetworkEvent;
+import net.stirdrem.overgeared.AnvilOccupancy;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.event.AnvilMinigameEvents;
-import net.stirdrem.overgeared.event.ModItemInteractEvents;
 
 import java.util.function.Supplier;
 
@@ -42,11 +42,9 @@ public class ResetMinigameS2CPacket {
                         );
 
                         // Only reset if the player's tracked anvil matches
-                        if (ModItemInteractEvents.playerAnvilPositions
-                                .getOrDefault(player.getUUID(), BlockPos.ZERO)
-                                .equals(anvilPos)) {
-                            ModItemInteractEvents.playerAnvilPositions.remove(player.getUUID());
-                            ModItemInteractEvents.playerMinigameVisibility.remove(player.getUUID());
+                        AnvilOccupancy occupancy = AnvilOccupancy.get(player.level());
+                        if (occupancy.isUsing(player.getUUID(), player.level(), anvilPos)) {
+                            occupancy.release(player.getUUID());
                             AnvilMinigameEvents.reset(quality);
                         }
                     }
@@ -4,10 +4,12 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
+import net.stirdrem.overgeared.AnvilOccupancy;
+import net.stirdrem.overgeared.ForgingSession;
 import net.stirdrem.overgeared.block.custom.AbstractSmithingAnvilNew;
 import net.stirdrem.overgeared.block.entity.AbstractSmithingAnvilBlockEntity;
 import net.stirdrem.overgeared.event.AnvilMinigameEvents;
-import net.stirdrem.overgeared.event.ModItemInteractEvents;
+import net.stirdrem.overgeared.networking.ModMessages;
 
 import java.util.function.Supplier;
 
@@ -38,7 +40,12 @@ public class SetMinigameVisibleC2SPacket {
             ServerPlayer sender = ctx.get().getSender();
             if (sender != null && sender.level().getBlockEntity(msg.pos) instanceof AbstractSmithingAnvilBlockEntity anvilBlock) {
                 anvilBlock.setMinigameOn(msg.getVisible());
-                ModItemInteractEvents.playerMinigameVisibility.put(sender.getUUID(), msg.getVisible());
+                AnvilOccupancy.get(sender.level()).setVisible(sender.getUUID(), msg.getVisible());
+                // The client's arrow kept its own pace while hidden, line it up with the server's again
+                ForgingSession session = ForgingSession.get(sender.level(), msg.pos, sender.getUUID());
+                if (msg.getVisible() && session != null) {
+                    ModMessages.sendToPlayer(new MinigameStateS2CPacket(session, null), sender);
+                }
             }
         });
         ctx.get().setPacketHandled(true);
@@ -190,9 +190,7 @@ public class CastBlastingRecipe extends BlastingRecipe {
 
     private @NotNull CompoundTag getCompoundTag(ItemStack castCopy) {
         CompoundTag tag = castCopy.getOrCreateTag();
-        if (tag.contains("input")) {
-            tag.remove("input");
-        }
+        ToolCastItem.clearInputs(tag);
         if (tag.contains("Materials")) {
             CompoundTag mats = tag.getCompound("Materials");
             List<String> toRemove = new ArrayList<>();
@@ -2,8 +2,6 @@ package net.stirdrem.overgeared.recipe;
 
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.inventory.CraftingContainer;
 import net.minecraft.world.item.ItemStack;
@@ -12,6 +10,7 @@ import net.minecraft.world.level.Level;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.stirdrem.overgeared.config.ServerConfig;
 import net.stirdrem.overgeared.item.ModItems;
+import net.stirdrem.overgeared.item.custom.ToolCastItem;
 import net.stirdrem.overgeared.util.ConfigHelper;
 
 import java.util.HashMap;
@@ -138,8 +137,8 @@ public class DynamicToolCastRecipe extends CustomRecipe {
             newMatTag.putInt(entry.getKey(), entry.getValue());
         }
 
-        // ✅ Add complete item data to the "input" list, merging duplicates
-        addItemStacksToInputList(castTag, inputItems);
+        // ✅ Record the inputs, merging duplicates
+        ToolCastItem.addInputs(castTag, inputItems);
 
         castTag.put("Materials", newMatTag);
         castTag.putInt("Amount", totalAmount);
@@ -148,147 +147,6 @@ public class DynamicToolCastRecipe extends CustomRecipe {
         return cast;
     }
 
-    /**
-     * Adds complete item stack data to the "input" NBT list, merging duplicates
-     */
-    private void addItemStacksToInputList(CompoundTag castTag, List<ItemStack> newInputItems) {
-        // Get or create the "input" list
-        ListTag inputList;
-        if (castTag.contains("input", Tag.TAG_LIST)) {
-            inputList = castTag.getList("input", Tag.TAG_COMPOUND);
-        } else {
-            inputList = new ListTag();
-        }
-
-        // Convert existing input list to a list of ItemStacks for comparison
-        List<ItemStack> existingItems = new ArrayList<>();
-        for (Tag inputTag : inputList) {
-            if (inputTag instanceof CompoundTag) {
-                ItemStack existingItem = ItemStack.of((CompoundTag) inputTag);
-                if (!existingItem.isEmpty()) {
-                    existingItems.add(existingItem);
-                }
-            }
-        }
-
-        // Merge new items with existing items
-        for (ItemStack newItem : newInputItems) {
-            boolean merged = false;
-
-            // Try to merge with existing items
-            for (int i = 0; i < existingItems.size(); i++) {
-                ItemStack existingItem = existingItems.get(i);
-
-                // Check if items are identical (same item, same NBT)
-                if (areItemStacksIdentical(existingItem, newItem)) {
-                    // Increase count of existing item
-                    existingItem.setCount(existingItem.getCount() + newItem.getCount());
-                    merged = true;
-                    break;
-                }
-            }
-
-            // If not merged, add as new entry
-            if (!merged) {
-                existingItems.add(newItem.copy());
-            }
-        }
-
-        // Convert back to NBT list
-        ListTag mergedInputList = new ListTag();
-        for (ItemStack item : existingItems) {
-            CompoundTag itemTag = new CompoundTag();
-            item.save(itemTag); // Save with updated count
-            mergedInputList.add(itemTag);
-        }
-
-        // Save the updated list back to the cast
-        castTag.put("input", mergedInputList);
-    }
-
-    /**
-     * Checks if two ItemStacks are identical (same item and same NBT)
-     */
-    private boolean areItemStacksIdentical(ItemStack stack1, ItemStack stack2) {
-        // Check if items are the same
-        if (!ItemStack.isSameItem(stack1, stack2)) {
-            return false;
-        }
-
-        // Check if NBT tags are the same
-        CompoundTag tag1 = stack1.getTag();
-        CompoundTag tag2 = stack2.getTag();
-
-        if (tag1 == null && tag2 == null) {
-            return true;
-        }
-
-        if (tag1 == null || tag2 == null) {
-            return false;
-        }
-
-        return tag1.equals(tag2);
-    }
-
-    /**
-     * Alternative: More efficient version that works directly with NBT
-     */
-    private void addItemStacksToInputListEfficient(CompoundTag castTag, List<ItemStack> newInputItems) {
-        // Get or create the "input" list
-        ListTag inputList;
-        if (castTag.contains("input", Tag.TAG_LIST)) {
-            inputList = castTag.getList("input", Tag.TAG_COMPOUND);
-        } else {
-            inputList = new ListTag();
-        }
-
-        // Create a map to track items by their NBT signature
-        HashMap<String, CompoundTag> itemMap = new HashMap<>();
-
-        // Process existing items
-        for (Tag inputTag : inputList) {
-            if (inputTag instanceof CompoundTag) {
-                CompoundTag itemTag = (CompoundTag) inputTag;
-                String signature = getItemSignature(itemTag);
-                itemMap.put(signature, itemTag);
-            }
-        }
-
-        // Process new items
-        for (ItemStack newItem : newInputItems) {
-            CompoundTag newItemTag = new CompoundTag();
-            newItem.save(newItemTag);
-            String signature = getItemSignature(newItemTag);
-
-            if (itemMap.containsKey(signature)) {
-                // Merge with existing item
-                CompoundTag existingTag = itemMap.get(signature);
-                int existingCount = existingTag.getByte("Count") & 0xFF; // Minecraft stores count as byte
-                int newCount = newItemTag.getByte("Count") & 0xFF;
-                existingTag.putByte("Count", (byte) Math.min(existingCount + newCount, 64)); // Cap at stack size
-            } else {
-                // Add as new item
-                itemMap.put(signature, newItemTag);
-            }
-        }
-
-        // Convert map back to list
-        ListTag mergedInputList = new ListTag();
-        mergedInputList.addAll(itemMap.values());
-
-        // Save the updated list back to the cast
-        castTag.put("input", mergedInputList);
-    }
-
-    /**
-     * Creates a unique signature for an item based on its ID and NBT
-     */
-    private String getItemSignature(CompoundTag itemTag) {
-        String itemId = itemTag.getString("id");
-        CompoundTag tag = itemTag.getCompound("tag");
-        return itemId + "#" + tag.toString(); // Use NBT string as part of signature
-    }
-
     @Override
     public boolean canCraftInDimensions(int width, int height) {
         return width * height >= 2;
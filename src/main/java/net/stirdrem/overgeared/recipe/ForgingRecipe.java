@@ -42,6 +42,14 @@ public class ForgingRecipe implements Recipe<Container> {
     private final boolean showNotification;
     private final ForgingQuality minimumQuality;
     private final ForgingQuality qualityDifficulty;
+    // Occupied cells of the pattern on the 3x3 grid, -1 if the pattern doesn't fit it
+    private final int patternMask;
+    // ForgingRecipeIndex.trimmedShapeKey of patternMask
+    private final int shapeKey;
+    // Top-left occupied cell within the pattern, i.e. how far blank pattern edges push it in
+    private final int patternMinX;
+    private final int patternMinY;
+    private final int priority;
 
     public ForgingRecipe(ResourceLocation id, String group, boolean requireBlueprint, Set<String> blueprintTypes, String tier, NonNullList<ForgingIngredient> ingredients,
                          ItemStack result, ItemStack failedResult, int hammering, boolean hasQuality, boolean needsMinigame, boolean hasPolishing, boolean needQuenching, boolean showNotification, ForgingQuality minimumQuality, ForgingQuality qualityDifficulty, int width, int height) {
@@ -63,13 +71,27 @@ public class ForgingRecipe implements Recipe<Container> {
         this.width = width;
         this.height = height;
         this.qualityDifficulty = qualityDifficulty;
+
+        int mask = 0;
+        int itemCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (ingredients.get(y * width + x).ingredient.isEmpty()) continue;
+                itemCount++;
+                if (x < 3 && y < 3) mask |= 1 << (y * 3 + x);
+            }
+        }
+        boolean fits = width <= 3 && height <= 3;
+        this.patternMask = fits ? mask : -1;
+        this.shapeKey = fits ? ForgingRecipeIndex.trimmedShapeKey(mask) : -1;
+        this.patternMinX = minX(mask);
+        this.patternMinY = minY(mask);
+        // Bigger recipes first, the item count breaks ties between equal sizes
+        this.priority = width * height * 100 + itemCount;
     }
 
     public static Optional<ForgingRecipe> findBestMatch(Level world, Container inv) {
-        return world.getRecipeManager().getAllRecipesFor(ModRecipeTypes.FORGING.get())
-                .stream()
-                .filter(recipe -> recipe.matches(inv, world))
-                .max(Comparator.comparingInt(ForgingRecipe::getRecipeSize));
+        return ForgingRecipeIndex.get(world.getRecipeManager()).findBestMatch(inv, world);
     }
 
     private boolean checkBlueprint(Container inv) {
@@ -92,71 +114,39 @@ public class ForgingRecipe implements Recipe<Container> {
 
     @Override
     public boolean matches(Container inv, Level world) {
-        ForgingRecipe bestMatch = null;
-        int bestPriority = -1;
-
-        // Check all possible positions for all possible recipes
-        for (int y = 0; y <= 3 - height; y++) {
-            for (int x = 0; x <= 3 - width; x++) {
-                if (matchesPattern(inv, x, y) && checkSurroundingBlanks(inv, x, y)) {
-                    int currentPriority = calculatePriority();
-                    if (currentPriority > bestPriority) {
-                        bestPriority = currentPriority;
-                        bestMatch = this;
-                    }
-                }
+        if (patternMask < 0) return false;
+
+        int gridMask = 0;
+        for (int slot = 0; slot < 9; slot++) {
+            if (!inv.getItem(slot).isEmpty()) {
+                gridMask |= 1 << slot;
             }
         }
 
-        return bestMatch == this;
-    }
+        // Filled slots have to be exactly the pattern's, moved somewhere on the grid
+        if (gridMask == 0) return patternMask == 0;
+        if (ForgingRecipeIndex.trimmedShapeKey(gridMask) != shapeKey) return false;
 
-    private boolean checkSurroundingBlanks(Container inv, int xOffset, int yOffset) {
-        // Check if slots outside the recipe pattern are empty
-        for (int y = 0; y < 3; y++) {
-            for (int x = 0; x < 3; x++) {
-                // Skip slots that are part of the recipe
-                if (x >= xOffset && x < xOffset + width &&
-                        y >= yOffset && y < yOffset + height) {
-                    continue;
-                }
+        // Only one placement lines the occupied cells up, and blank pattern edges must still fit
+        int xOffset = minX(gridMask) - patternMinX;
+        int yOffset = minY(gridMask) - patternMinY;
+        if (xOffset < 0 || yOffset < 0 || xOffset > 3 - width || yOffset > 3 - height) return false;
 
-                // Check if non-recipe slots are empty
-                int invSlot = y * 3 + x;
-                if (!inv.getItem(invSlot).isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    private int calculatePriority() {
-        // Calculate priority based on recipe size (bigger recipes have higher priority)
-        // Add a small bonus for recipes that use more items to break ties
-        int itemCount = 0;
-        for (ForgingIngredient ingredient : ingredients) {
-            if (!ingredient.ingredient.isEmpty()) {
-                itemCount++;
-            }
-        }
-        return width * height * 100 + itemCount; // Multiplier ensures size dominates
+        return matchesPattern(inv, xOffset, yOffset);
     }
 
+    /**
+     * Tests the pattern's ingredients at the given offset. Empty cells aren't looked at,
+     * the occupancy mask already guarantees their slots are empty.
+     */
     private boolean matchesPattern(Container inv, int xOffset, int yOffset) {
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                int invSlot = (y + yOffset) * 3 + (x + xOffset);
-                Ingredient ingredient = ingredients.get(y * width + x).ingredient;
+                ForgingIngredient ingredient = ingredients.get(y * width + x);
+                if (ingredient.ingredient.isEmpty()) continue;
 
-                // If recipe expects empty, inventory slot must be empty
-                if (ingredient.isEmpty()) {
-                    if (!inv.getItem(invSlot).isEmpty()) {
-                        return false;
-                    }
-                }
-                // If recipe expects item, must match and have at least 1 count
-                else if (!ingredients.get(y * width + x).test(inv.getItem(invSlot))) {
+                int invSlot = (y + yOffset) * 3 + (x + xOffset);
+                if (!ingredient.test(inv.getItem(invSlot))) {
                     return false;
                 }
             }
@@ -164,6 +154,20 @@ public class ForgingRecipe implements Recipe<Container> {
         return true;
     }
 
+    // Leftmost occupied column of a 3x3 mask
+    private static int minX(int mask) {
+        if ((mask & 0b001001001) != 0) return 0;
+        if ((mask & 0b010010010) != 0) return 1;
+        return 2;
+    }
+
+    // Topmost occupied row of a 3x3 mask
+    private static int minY(int mask) {
+        if ((mask & 0b000000111) != 0) return 0;
+        if ((mask & 0b000111000) != 0) return 1;
+        return 2;
+    }
+
     @Override
     public ItemStack assemble(Container inv, RegistryAccess registryAccess) {
         ItemStack out = result.copy();
@@ -299,10 +303,25 @@ public class ForgingRecipe implements Recipe<Container> {
         return needQuenching;
     }
 
-    private int getRecipeSize() {
+    public int getRecipeSize() {
         return width * height;
     }
 
+    /**
+     * Pattern size times 100 plus the number of filled cells, higher wins between matches.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Trimmed occupancy of the pattern, see ForgingRecipeIndex#trimmedShapeKey.
+     * -1 for patterns that don't fit the 3x3 grid.
+     */
+    public int getShapeKey() {
+        return shapeKey;
+    }
+
     public static class Type implements RecipeType<ForgingRecipe> {
         public static final Type INSTANCE = new Type();
         public static final String ID = "forging";
@@ -0,0 +1,162 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Lookup table for forging recipes, keyed by the trimmed grid shape and the item in the
+ * first occupied cell. Built lazily per RecipeManager and dropped on recipe/tag reload.
+ */
+public class ForgingRecipeIndex {
+    private static final Map<RecipeManager, ForgingRecipeIndex> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // shape key -> anchor item -> recipes
+    private final Map<Integer, Map<Item, List<Entry>>> byShape = new HashMap<>();
+    // shape key -> recipes whose anchor ingredient can't be expanded into items
+    private final Map<Integer, List<Entry>> unkeyedByShape = new HashMap<>();
+
+    ForgingRecipeIndex(List<ForgingRecipe> recipes) {
+        int order = 0;
+        for (ForgingRecipe recipe : recipes) {
+            // Patterns larger than the anvil grid can never match
+            if (recipe.getShapeKey() < 0) continue;
+
+            Entry entry = new Entry(recipe, order++);
+            int shape = recipe.getShapeKey();
+            Ingredient anchor = anchorIngredient(recipe);
+
+            if (anchor == null || !anchor.isSimple()) {
+                unkeyedByShape.computeIfAbsent(shape, k -> new ArrayList<>()).add(entry);
+                continue;
+            }
+
+            Map<Item, List<Entry>> byItem = byShape.computeIfAbsent(shape, k -> new HashMap<>());
+            Set<Item> seen = new HashSet<>();
+            for (ItemStack stack : anchor.getItems()) {
+                if (seen.add(stack.getItem())) {
+                    byItem.computeIfAbsent(stack.getItem(), k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+    }
+
+    public static ForgingRecipeIndex get(RecipeManager recipeManager) {
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(recipeManager,
+                    rm -> new ForgingRecipeIndex(rm.getAllRecipesFor(ModRecipeTypes.FORGING.get())));
+        }
+    }
+
+    public static void invalidate() {
+        INDEXES.clear();
+    }
+
+    /**
+     * Same result as streaming every forging recipe through matches() and keeping the
+     * largest one, but only recipes with the grid's shape and anchor item are tested.
+     */
+    public Optional<ForgingRecipe> findBestMatch(Container inv, Level level) {
+        int shape = gridShapeKey(inv);
+        ItemStack anchorStack = anchorStack(inv);
+
+        Entry best = null;
+        if (!anchorStack.isEmpty()) {
+            Map<Item, List<Entry>> byItem = byShape.get(shape);
+            if (byItem != null) {
+                best = pickBest(byItem.get(anchorStack.getItem()), inv, level, null);
+            }
+        }
+        best = pickBest(unkeyedByShape.get(shape), inv, level, best);
+
+        return best == null ? Optional.empty() : Optional.of(best.recipe());
+    }
+
+    private static Entry pickBest(@Nullable List<Entry> candidates, Container inv, Level level, Entry best) {
+        if (candidates == null) return best;
+
+        for (Entry entry : candidates) {
+            if (best != null) {
+                int size = entry.size();
+                int bestSize = best.size();
+                // Larger recipes win, ties go to the recipe that was loaded first
+                if (size < bestSize || (size == bestSize && entry.order() > best.order())) continue;
+            }
+            if (entry.recipe().matches(inv, level)) {
+                best = entry;
+            }
+        }
+        return best;
+    }
+
+    private static Ingredient anchorIngredient(ForgingRecipe recipe) {
+        for (ForgingRecipe.ForgingIngredient ingredient : recipe.getForgingIngredients()) {
+            if (!ingredient.ingredient().isEmpty()) {
+                return ingredient.ingredient();
+            }
+        }
+        return null;
+    }
+
+    private static ItemStack anchorStack(Container inv) {
+        for (int slot = 0; slot < 9; slot++) {
+            ItemStack stack = inv.getItem(slot);
+            if (!stack.isEmpty()) return stack;
+        }
+        return ItemStack.EMPTY;
+    }
+
+    private static int gridShapeKey(Container inv) {
+        int mask = 0;
+        for (int slot = 0; slot < 9; slot++) {
+            if (!inv.getItem(slot).isEmpty()) {
+                mask |= 1 << slot;
+            }
+        }
+        return trimmedShapeKey(mask);
+    }
+
+    /**
+     * Packs a 3x3 occupancy mask, shifted to the top-left corner, together with its
+     * bounding box size. Two layouts get the same key only if they are translations
+     * of each other.
+     */
+    static int trimmedShapeKey(int mask) {
+        if (mask == 0) return 0;
+
+        int minX = 3, minY = 3, maxX = -1, maxY = -1;
+        for (int i = 0; i < 9; i++) {
+            if ((mask & (1 << i)) == 0) continue;
+            int x = i % 3, y = i / 3;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+
+        int width = maxX - minX + 1;
+        int height = maxY - minY + 1;
+        int trimmed = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((mask & (1 << ((y + minY) * 3 + x + minX))) != 0) {
+                    trimmed |= 1 << (y * 3 + x);
+                }
+            }
+        }
+        return trimmed | (width << 9) | (height << 11);
+    }
+
+    private record Entry(ForgingRecipe recipe, int order) {
+        int size() {
+            return recipe.getRecipeSize();
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package net.stirdrem.overgeared.recipe;
 
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
 
 import java.util.List;
 
-public interface IAlloyRecipe {
+public interface IAlloyRecipe extends Recipe<SimpleContainer> {
     List<Ingredient> getIngredientsList();
 
     ItemStack getResultItem(RegistryAccess registryAccess);
 
     float getExperience();
+
+    int getCookingTime();
 }
@@ -0,0 +1,77 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable input item -> result item table for the single-ingredient cooling and grinding
+ * recipes, one table per recipe type. The first recipe accepting a plain stack of an item
+ * decides its result. Cached like {@link ForgingRecipeIndex}.
+ */
+public class ItemConversionTable {
+    private static final Map<RecipeManager, ItemConversionTable> COOLING =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<RecipeManager, ItemConversionTable> GRINDING =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Holds Items.AIR when the first matching recipe has an empty result
+    private final Map<Item, Item> conversions;
+
+    <T> ItemConversionTable(List<T> recipes, Function<T, Ingredient> input, Function<T, ItemStack> output) {
+        Map<Item, Item> map = new HashMap<>();
+        for (T recipe : recipes) {
+            Ingredient ingredient = input.apply(recipe);
+            Item result = output.apply(recipe).getItem();
+
+            for (ItemStack stack : ingredient.getItems()) {
+                Item item = stack.getItem();
+                // Lookups used to test a plain stack of the item, keep the first recipe that accepts one
+                if (!map.containsKey(item) && ingredient.test(new ItemStack(item))) {
+                    map.put(item, result);
+                }
+            }
+        }
+        this.conversions = Map.copyOf(map);
+    }
+
+    public static ItemConversionTable cooling(RecipeManager recipeManager) {
+        synchronized (COOLING) {
+            return COOLING.computeIfAbsent(recipeManager, rm -> new ItemConversionTable(
+                    rm.getAllRecipesFor(ModRecipeTypes.COOLING_RECIPE.get()),
+                    CoolingRecipe::getInput, CoolingRecipe::getOutput));
+        }
+    }
+
+    public static ItemConversionTable grinding(RecipeManager recipeManager) {
+        synchronized (GRINDING) {
+            return GRINDING.computeIfAbsent(recipeManager, rm -> new ItemConversionTable(
+                    rm.getAllRecipesFor(ModRecipeTypes.GRINDING_RECIPE.get()),
+                    GrindingRecipe::getInput, GrindingRecipe::getOutput));
+        }
+    }
+
+    public static void invalidate() {
+        COOLING.clear();
+        GRINDING.clear();
+    }
+
+    /**
+     * Returns the recipe result for the item, or null if no recipe converts it.
+     */
+    @Nullable
+    public Item get(Item item) {
+        Item result = conversions.get(item);
+        return result == null || result == Items.AIR ? null : result;
+    }
+
+    public boolean contains(Item item) {
+        return get(item) != null;
+    }
+}
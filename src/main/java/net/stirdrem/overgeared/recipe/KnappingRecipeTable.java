@@ -0,0 +1,88 @@
+package net.stirdrem.overgeared.recipe;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Knapping results per rock item, as a 512-entry table indexed by the grid mask from
+ * {@link RockKnappingRecipe#gridMask}. Where recipes overlap, the first in load order owns
+ * the cell. Recipes whose ingredient can't be expanded into items stay in an ordered
+ * fallback list, tested against the rock only when they come before the table's hit.
+ * Cached like {@link ForgingRecipeIndex}.
+ */
+public class KnappingRecipeTable {
+    private static final Map<RecipeManager, KnappingRecipeTable> TABLES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Item, Entry[]> byItem = new HashMap<>();
+    // Recipes whose ingredient can't be expanded into items, tested against the rock on lookup
+    private final List<Entry> unkeyed = new ArrayList<>();
+
+    KnappingRecipeTable(List<RockKnappingRecipe> recipes) {
+        int order = 0;
+        for (RockKnappingRecipe recipe : recipes) {
+            Entry entry = new Entry(recipe, order++);
+            Ingredient ingredient = recipe.getIngredient();
+
+            if (!ingredient.isSimple()) {
+                unkeyed.add(entry);
+                continue;
+            }
+
+            for (ItemStack stack : ingredient.getItems()) {
+                Entry[] table = byItem.computeIfAbsent(stack.getItem(), k -> new Entry[512]);
+                for (int mask : recipe.getMasks()) {
+                    // First recipe wins, like the full scan did
+                    if (table[mask] == null) table[mask] = entry;
+                }
+            }
+        }
+    }
+
+    public static KnappingRecipeTable get(RecipeManager recipeManager) {
+        synchronized (TABLES) {
+            return TABLES.computeIfAbsent(recipeManager,
+                    rm -> new KnappingRecipeTable(rm.getAllRecipesFor(ModRecipeTypes.KNAPPING.get())));
+        }
+    }
+
+    public static void invalidate() {
+        TABLES.clear();
+    }
+
+    /**
+     * The recipe knapping {@code rock} into the grid {@code mask} produces, the same one a scan
+     * over every knapping recipe would find first.
+     */
+    @Nullable
+    public RockKnappingRecipe find(ItemStack rock, int mask) {
+        if (rock.isEmpty()) return null;
+
+        Entry[] table = byItem.get(rock.getItem());
+        Entry best = table == null ? null : table[mask & 511];
+
+        for (Entry entry : unkeyed) {
+            if (best != null && entry.order() > best.order()) break;
+            if (entry.recipe().getIngredient().test(rock) && contains(entry.recipe().getMasks(), mask)) {
+                best = entry;
+                break;
+            }
+        }
+        return best == null ? null : best.recipe();
+    }
+
+    private static boolean contains(int[] masks, int mask) {
+        for (int m : masks) {
+            if (m == mask) return true;
+        }
+        return false;
+    }
+
+    private record Entry(RockKnappingRecipe recipe, int order) {
+    }
+}
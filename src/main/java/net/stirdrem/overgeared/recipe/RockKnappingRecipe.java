@@ -2,6 +2,7 @@ package net.stirdrem.overgeared.recipe;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -22,6 +23,8 @@ public class RockKnappingRecipe implements Recipe<Container> {
     private final int width;
     private final int height;
     private final boolean mirrored;
+    // Every 3x3 grid mask this recipe accepts, one per offset and mirroring
+    private final int[] masks;
 
 
     /* ---------------- CONSTRUCTOR ---------------- */
@@ -42,6 +45,7 @@ public class RockKnappingRecipe implements Recipe<Container> {
         this.width = width;
         this.height = height;
         this.mirrored = mirrored;
+        this.masks = computeMasks();
     }
 
     /* ---------------- MATCHING LOGIC ---------------- */
@@ -58,45 +62,49 @@ public class RockKnappingRecipe implements Recipe<Container> {
             }
         }
 
-        boolean[][] input = new boolean[3][3];
+        int input = gridMask(inv);
+        for (int mask : masks) {
+            if (mask == input) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Bit {@code y * 3 + x} is set for every empty grid slot, the cells a pattern marks with x.
+     */
+    public static int gridMask(Container inv) {
+        int mask = 0;
         for (int i = 0; i < 9; i++) {
-            input[i / 3][i % 3] = inv.getItem(i).isEmpty(); // true = chipped
+            if (inv.getItem(i).isEmpty()) {
+                mask |= 1 << i;
+            }
         }
+        return mask;
+    }
 
+    // Cells outside the placed pattern have to stay unchipped, so each placement is exactly one mask
+    private int[] computeMasks() {
+        IntArrayList result = new IntArrayList();
         for (int y = 0; y <= 3 - height; y++) {
             for (int x = 0; x <= 3 - width; x++) {
-                if (matchesAt(input, x, y, false)) return true;
-                if (mirrored && matchesAt(input, x, y, true)) return true;
+                addMask(result, x, y, false);
+                if (mirrored) addMask(result, x, y, true);
             }
         }
-
-        return false;
+        return result.toIntArray();
     }
 
-    private boolean matchesAt(boolean[][] input, int ox, int oy, boolean mirror) {
+    private void addMask(IntArrayList result, int ox, int oy, boolean mirror) {
+        int mask = 0;
         for (int py = 0; py < height; py++) {
             for (int px = 0; px < width; px++) {
                 int sx = mirror ? width - 1 - px : px;
-                if (pattern[py][sx] != input[oy + py][ox + px]) {
-                    return false;
+                if (pattern[py][sx]) {
+                    mask |= 1 << ((oy + py) * 3 + ox + px);
                 }
             }
         }
-
-        // Outside pattern must be chipped
-        for (int y = 0; y < 3; y++) {
-            for (int x = 0; x < 3; x++) {
-                boolean inside =
-                        x >= ox && x < ox + width &&
-                                y >= oy && y < oy + height;
-
-                if (!inside && input[y][x]) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
+        if (!result.contains(mask)) result.add(mask);
     }
 
     /* ---------------- RECIPE OUTPUT ---------------- */
@@ -126,6 +134,10 @@ public class RockKnappingRecipe implements Recipe<Container> {
         return ingredient;
     }
 
+    public int[] getMasks() {
+        return masks;
+    }
+
     /* ---------------- RECIPE META ---------------- */
 
     @Override
@@ -10,6 +10,7 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.*;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.alchemy.Potion;
@@ -25,6 +26,7 @@ import net.stirdrem.overgeared.recipe.ModRecipeTypes;
 
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 public class FletchingStationMenu extends AbstractContainerMenu {
@@ -45,6 +47,13 @@ public class FletchingStationMenu extends AbstractContainerMenu {
     private final RecipeManager recipeManager;
     private final Player player;
 
+    // Inputs the cached resolution was computed for
+    private final Item[] cachedItems = new Item[4];
+    private final CompoundTag[] cachedTags = new CompoundTag[4];
+    private boolean cachedAllowConversion;
+    @Nullable
+    private Resolution cachedResolution;
+
     public FletchingStationMenu(int id, Inventory playerInv) {
         this(id, playerInv, ContainerLevelAccess.NULL);
     }
@@ -189,6 +198,58 @@ public class FletchingStationMenu extends AbstractContainerMenu {
         // If all input slots are empty, clear the output slot
         if (level.isClientSide()) return;
 
+        Resolution resolution = resolve();
+        ItemStack resultStack = resolution.result().copy();
+        if (!resultStack.isEmpty()) {
+            if (resolution.recipe() != null) {
+                int tipCount = input.getItem(INPUT_SLOT_TIP).getCount();
+                int shaftCount = input.getItem(INPUT_SLOT_SHAFT).getCount();
+                int featherCount = input.getItem(INPUT_SLOT_FEATHER).getCount();
+
+                int craftCount = Math.max(Math.min(Math.min(tipCount, shaftCount), featherCount), 1);
+                int outPer = resolution.outPer();
+                int maxStack = resultStack.getMaxStackSize();
+                int maxCraftCount = Math.min(maxStack / outPer, craftCount);
+                resultStack.setCount(outPer * maxCraftCount);
+            } else {
+                // Plain potion conversion, one tipped arrow per arrow
+                resultStack.setCount(input.getItem(resolution.arrowSlot()).getCount());
+            }
+        }
+        result.setItem(OUTPUT_SLOT, resultStack);
+        broadcastChanges();
+    }
+
+    /**
+     * Recipe and output for the current inputs, ignoring stack sizes. Only recomputed once an
+     * input's item or tag changes, so taking a result or shift-crafting a stack batch by batch
+     * resolves once.
+     */
+    private Resolution resolve() {
+        boolean allowUpgradeableArrowConversion = ServerConfig.UPGRADE_ARROW_POTION_TOGGLE.get();
+        if (cachedResolution != null && cachedAllowConversion == allowUpgradeableArrowConversion && inputsUnchanged()) {
+            return cachedResolution;
+        }
+
+        for (int i = 0; i < 4; i++) {
+            ItemStack stack = input.getItem(i);
+            cachedItems[i] = stack.getItem();
+            cachedTags[i] = stack.getTag() == null ? null : stack.getTag().copy();
+        }
+        cachedAllowConversion = allowUpgradeableArrowConversion;
+        cachedResolution = computeResolution(allowUpgradeableArrowConversion);
+        return cachedResolution;
+    }
+
+    private boolean inputsUnchanged() {
+        for (int i = 0; i < 4; i++) {
+            ItemStack stack = input.getItem(i);
+            if (stack.getItem() != cachedItems[i] || !Objects.equals(stack.getTag(), cachedTags[i])) return false;
+        }
+        return true;
+    }
+
+    private Resolution computeResolution(boolean allowUpgradeableArrowConversion) {
         boolean hasInput = false;
         for (int i = 0; i < 3; i++) {
             if (!input.getItem(i).isEmpty()) {
@@ -197,25 +258,20 @@ public class FletchingStationMenu extends AbstractContainerMenu {
             }
         }
         if (!hasInput) {
-            result.setItem(OUTPUT_SLOT, ItemStack.EMPTY);
-            broadcastChanges();
-            return;
+            return Resolution.NONE;
         }
         Optional<FletchingRecipe> opt = recipeManager.getRecipeFor(ModRecipeTypes.FLETCHING.get(), input, level);
         ItemStack resultStack = ItemStack.EMPTY;
         ItemStack potion = input.getItem(INPUT_SLOT_POTION);
+        int slotNumber = -1;
         // Check for arrow stack + potion conversion case
-        boolean allowUpgradeableArrowConversion = ServerConfig.UPGRADE_ARROW_POTION_TOGGLE.get();
         if (!potion.isEmpty()) {
             int arrowSlots = 0;
-            int arrowCount = 0;
-            int slotNumber = -1;
             // Count how many slots contain arrows
             for (int i = 0; i < 3; i++) {
                 ItemStack slotStack = input.getItem(i);
                 if (slotStack.is(Items.ARROW) || (allowUpgradeableArrowConversion && isUpgradeableArrow(slotStack))) {
                     arrowSlots++;
-                    arrowCount = slotStack.getCount();
                     slotNumber = i;
                 }
             }
@@ -227,15 +283,13 @@ public class FletchingStationMenu extends AbstractContainerMenu {
 
                 // Skip if trying to convert upgradeable arrow when not allowed
                 if (isUpgradeable && !allowUpgradeableArrowConversion) {
-                    result.setItem(OUTPUT_SLOT, ItemStack.EMPTY);
-                    broadcastChanges();
-                    return;
+                    return Resolution.NONE;
                 }
                 if (potion.is(Items.POTION)) {
                     ItemStack tippedArrows;
-                    if (isUpgradeableArrow(input.getItem(slotNumber)))
-                        tippedArrows = input.getItem(slotNumber).copy();
-                    else tippedArrows = new ItemStack(Items.TIPPED_ARROW, arrowCount);
+                    if (isUpgradeable)
+                        tippedArrows = arrowStack.copy();
+                    else tippedArrows = new ItemStack(Items.TIPPED_ARROW);
                     PotionUtils.setPotion(tippedArrows, PotionUtils.getPotion(potion));
                     if (potion.hasTag()) {
                         tippedArrows.setTag(potion.getTag().copy());
@@ -243,16 +297,16 @@ public class FletchingStationMenu extends AbstractContainerMenu {
                     resultStack = tippedArrows;
                 } else if (potion.is(Items.LINGERING_POTION)) {
                     ItemStack lingeringArrows;
-                    if (isUpgradeableArrow(input.getItem(slotNumber))) {
-                        lingeringArrows = input.getItem(slotNumber).copy();
+                    if (isUpgradeable) {
+                        lingeringArrows = arrowStack.copy();
                     } else {
-                        lingeringArrows = new ItemStack(ModItems.LINGERING_ARROW.get(), arrowCount);
+                        lingeringArrows = new ItemStack(ModItems.LINGERING_ARROW.get());
                     }
                     PotionUtils.setPotion(lingeringArrows, PotionUtils.getPotion(potion));
                     if (potion.hasTag()) {
                         lingeringArrows.setTag(potion.getTag().copy());
                     }
-                    if (isUpgradeableArrow(input.getItem(slotNumber))) {
+                    if (isUpgradeable) {
                         lingeringArrows.getOrCreateTag().putBoolean("LingeringPotion", true);
                     }
                     resultStack = lingeringArrows;
@@ -260,86 +314,68 @@ public class FletchingStationMenu extends AbstractContainerMenu {
             }
         }
 
-        if (opt.isPresent()) {
-            FletchingRecipe recipe = opt.get();
-
-            int tipCount = input.getItem(INPUT_SLOT_TIP).getCount();
-            int shaftCount = input.getItem(INPUT_SLOT_SHAFT).getCount();
-            int featherCount = input.getItem(INPUT_SLOT_FEATHER).getCount();
+        if (opt.isEmpty()) {
+            return new Resolution(null, resultStack, 0, slotNumber);
+        }
 
-            int craftCount = Math.max(Math.min(Math.min(tipCount, shaftCount), featherCount), 1);
-            ItemStack baseResult = recipe.assemble(input, level.registryAccess());
+        FletchingRecipe recipe = opt.get();
+        ItemStack baseResult = recipe.assemble(input, level.registryAccess());
 
-            if (!potion.isEmpty()) {
-                boolean isUpgradeable = isUpgradeableArrow(baseResult);
-                if ((isUpgradeable && !allowUpgradeableArrowConversion)) {
-                    result.setItem(OUTPUT_SLOT, ItemStack.EMPTY);
-                    broadcastChanges();
-                    return;
+        if (!potion.isEmpty()) {
+            boolean isUpgradeable = isUpgradeableArrow(baseResult);
+            if ((isUpgradeable && !allowUpgradeableArrowConversion)) {
+                return new Resolution(recipe, ItemStack.EMPTY, baseResult.getCount(), -1);
+            }
+            String potionEffect = PotionUtils.getPotion(potion).getName(""); // Gets "minecraft:strong_strength" etc
+
+            if ((potion.is(Items.POTION) || potion.is(Items.SPLASH_POTION)) && recipe.hasTippedResult()) {
+                resultStack = recipe.getTippedResult();
+                CompoundTag resultTag = resultStack.getOrCreateTag();
+                /*if (recipe.getTippedTag() != null) {
+                    // Add recipe-defined tipped tag without replacing everything
+                    resultTag.putString(recipe.getTippedTag(), potionEffect);
+                }*/
+                if (potion.hasTag()) {
+                    resultTag.merge(potion.getTag().copy());
                 }
-                String potionEffect = PotionUtils.getPotion(potion).getName(""); // Gets "minecraft:strong_strength" etc
-
-                if ((potion.is(Items.POTION) || potion.is(Items.SPLASH_POTION)) && !recipe.getTippedResult().isEmpty()) {
-                    resultStack = recipe.getTippedResult().copy();
-                    CompoundTag resultTag = resultStack.getOrCreateTag();
-                    /*if (recipe.getTippedTag() != null) {
-                        // Add recipe-defined tipped tag without replacing everything
-                        resultTag.putString(recipe.getTippedTag(), potionEffect);
-                    }*/
-                    if (potion.hasTag()) {
-                        resultTag.merge(potion.getTag().copy());
-                    }
-                    resultStack.setTag(potion.getTag().copy());
-
-                } else if (potion.is(Items.LINGERING_POTION) && !recipe.getLingeringResult().isEmpty()) {
-                    resultStack = recipe.getLingeringResult().copy();
+                resultStack.setTag(potion.getTag().copy());
 
-                    CompoundTag resultTag = resultStack.getOrCreateTag();
+            } else if (potion.is(Items.LINGERING_POTION) && recipe.hasLingeringResult()) {
+                resultStack = recipe.getLingeringResult();
 
-                    if (isUpgradeableArrow(resultStack)) {
-                        resultTag.putBoolean("LingeringPotion", true);
-                    } else if (recipe.getLingeringTag() != null) {
-                        // Add recipe-defined lingering tag without replacing everything
-                        resultTag.putString(recipe.getLingeringTag(), potionEffect);
-                    }
+                CompoundTag resultTag = resultStack.getOrCreateTag();
 
-                    // Always set potion effect onto the stack
-                    //PotionUtils.setPotion(resultStack, PotionUtils.getPotion(potion));
+                if (isUpgradeableArrow(resultStack)) {
+                    resultTag.putBoolean("LingeringPotion", true);
+                } else if (recipe.getLingeringTag() != null) {
+                    // Add recipe-defined lingering tag without replacing everything
+                    resultTag.putString(recipe.getLingeringTag(), potionEffect);
+                }
 
-                    // Merge potion’s tag (if present) instead of overwriting
-                    if (potion.hasTag()) {
-                        resultTag.merge(potion.getTag().copy());
-                    }
+                // Always set potion effect onto the stack
+                //PotionUtils.setPotion(resultStack, PotionUtils.getPotion(potion));
 
-                    resultStack.setTag(resultTag);
-                } else {
-                    result.setItem(OUTPUT_SLOT, ItemStack.EMPTY);
-                    broadcastChanges();
-                    return;
+                // Merge potion’s tag (if present) instead of overwriting
+                if (potion.hasTag()) {
+                    resultTag.merge(potion.getTag().copy());
                 }
-            } else {
-                resultStack = baseResult.copy();
-            }
 
-            if (!resultStack.isEmpty()) {
-                int outPer = baseResult.getCount();
-                int maxStack = resultStack.getMaxStackSize();
-                int maxCraftCount = Math.min(maxStack / outPer, craftCount);
-                resultStack.setCount(outPer * maxCraftCount);
+                resultStack.setTag(resultTag);
+            } else {
+                return new Resolution(recipe, ItemStack.EMPTY, baseResult.getCount(), -1);
             }
+        } else {
+            resultStack = baseResult;
         }
-        result.setItem(OUTPUT_SLOT, resultStack);
-        broadcastChanges();
+        return new Resolution(recipe, resultStack, baseResult.getCount(), -1);
     }
 
     private void consumeInputs(ItemStack result) {
         if (result.isEmpty()) return;
 
-        Optional<FletchingRecipe> opt = recipeManager.getRecipeFor(ModRecipeTypes.FLETCHING.get(), input, level);
-        if (opt.isPresent()) {
-            FletchingRecipe recipe = opt.get();
-            ItemStack baseResult = recipe.assemble(input, level.registryAccess());
-            int baseCount = baseResult.getCount();
+        Resolution resolution = resolve();
+        if (resolution.recipe() != null) {
+            int baseCount = resolution.outPer();
             int tookCount = result.getCount();
             int batchesTaken = Math.max(1, tookCount / baseCount);
 
@@ -457,8 +493,7 @@ public class FletchingStationMenu extends AbstractContainerMenu {
     }
 
     private boolean canStillCraft() {
-        Optional<FletchingRecipe> opt = recipeManager.getRecipeFor(ModRecipeTypes.FLETCHING.get(), input, level);
-        return opt.isPresent();
+        return resolve().recipe() != null;
     }
 
     private boolean simulateInsertIntoPlayerInventory(ItemStack stack) {
@@ -523,4 +558,14 @@ public class FletchingStationMenu extends AbstractContainerMenu {
         }
 
     }
-}
\ No newline at end of file
+
+    /**
+     * @param recipe    matching fletching recipe, null for a plain potion conversion or no result
+     * @param result    output with its count still to be set
+     * @param outPer    items the recipe makes per craft
+     * @param arrowSlot input slot holding the arrows for a potion conversion
+     */
+    private record Resolution(@Nullable FletchingRecipe recipe, ItemStack result, int outPer, int arrowSlot) {
+        static final Resolution NONE = new Resolution(null, ItemStack.EMPTY, 0, -1);
+    }
+}
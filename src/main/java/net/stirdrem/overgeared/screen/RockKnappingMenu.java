@@ -14,9 +14,12 @@ import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.stirdrem.overgeared.advancement.ModAdvancementTriggers;
 import net.stirdrem.overgeared.datapack.KnappingResourceReloadListener;
-import net.stirdrem.overgeared.recipe.ModRecipeTypes;
+import net.stirdrem.overgeared.recipe.KnappingRecipeTable;
 import net.stirdrem.overgeared.recipe.RockKnappingRecipe;
 import net.stirdrem.overgeared.util.ModTags;
+import net.stirdrem.overgeared.util.TickScheduler;
+
+import javax.annotation.Nullable;
 
 public class RockKnappingMenu extends AbstractContainerMenu {
     private final Container craftingGrid = new SimpleContainer(9); // 3x3 grid
@@ -29,6 +32,16 @@ public class RockKnappingMenu extends AbstractContainerMenu {
     private boolean resultCollected = false;
     private boolean rockConsumed = false; // Track if rock has been consumed
 
+    public static final int GRID_MASK = (1 << 9) - 1;
+    // Chip packets a player may send in a burst, refilled by one per server tick
+    private static final int CHIP_PACKET_BURST = 4;
+    private int chipPacketTokens = CHIP_PACKET_BURST;
+    private long chipPacketTick = 0;
+    // Toggles received past the rate limit, applied together on a later tick
+    private int pendingChips = 0;
+    @Nullable
+    private TickScheduler.Task chipFlush;
+
     // Slot indices constants
     private static final int PLAYER_INVENTORY_SLOT_COUNT = 36; // 27 main + 9 hotbar
     private static final int PLAYER_FIRST_SLOT_INDEX = 0;
@@ -233,7 +246,15 @@ public class RockKnappingMenu extends AbstractContainerMenu {
     }
 
     public void setChip(int index) {
-        if (knappingFinished || resultCollected) return;
+        setChips(1 << index);
+    }
+
+    /**
+     * Toggles every grid spot set in {@code mask}, then resolves the result once.
+     */
+    public void setChips(int mask) {
+        mask &= GRID_MASK;
+        if (mask == 0 || knappingFinished || resultCollected) return;
 
         // Consume rock on first chip
         if (!rockConsumed) {
@@ -241,18 +262,70 @@ public class RockKnappingMenu extends AbstractContainerMenu {
             rockConsumed = true;
         }
 
-        // Toggle the chip state
-        if (!craftingGrid.getItem(index).isEmpty()) {
-            // Remove chip (make unchipped)
-            craftingGrid.setItem(index, ItemStack.EMPTY);
-        } else {
-            // Add chip (make chipped) - using a marker item
-            craftingGrid.setItem(index, new ItemStack(inputRock.getItem()));
+        for (int index = 0; index < 9; index++) {
+            if ((mask & (1 << index)) == 0) continue;
+
+            // Toggle the chip state
+            if (!craftingGrid.getItem(index).isEmpty()) {
+                // Remove chip (make unchipped)
+                craftingGrid.setItem(index, ItemStack.EMPTY);
+            } else {
+                // Add chip (make chipped) - using a marker item
+                craftingGrid.setItem(index, new ItemStack(inputRock.getItem()));
+            }
         }
 
         updateResult();
     }
 
+    /**
+     * Takes the toggles from a chip packet. Within the rate limit they apply right away,
+     * past it they pile up and apply together on the next tick, so at most one grid update
+     * runs per tick once the burst is spent and a lagging server never loses a toggle.
+     */
+    public void receiveChips(int mask, long gameTime) {
+        pendingChips ^= mask & GRID_MASK;
+        if (tryAcceptChipPacket(gameTime)) {
+            flushPendingChips();
+        } else if (chipFlush == null) {
+            chipFlush = TickScheduler.get(level).schedule(level, 1, this::flushScheduledChips);
+        }
+    }
+
+    private void flushScheduledChips() {
+        chipFlush = null;
+        if (player.containerMenu != this) {
+            pendingChips = 0;
+            return;
+        }
+        if (tryAcceptChipPacket(level.getGameTime())) {
+            flushPendingChips();
+        } else {
+            chipFlush = TickScheduler.get(level).schedule(level, 1, this::flushScheduledChips);
+        }
+    }
+
+    private void flushPendingChips() {
+        int mask = pendingChips;
+        pendingChips = 0;
+        setChips(mask);
+    }
+
+    /**
+     * Rate limit for chip packets. A client sends at most one per tick, anything faster
+     * than that beyond a small burst waits for a later tick.
+     */
+    private boolean tryAcceptChipPacket(long gameTime) {
+        if (gameTime > chipPacketTick) {
+            chipPacketTokens = (int) Math.min(CHIP_PACKET_BURST, chipPacketTokens + gameTime - chipPacketTick);
+            chipPacketTick = gameTime;
+        }
+        if (chipPacketTokens <= 0) return false;
+
+        chipPacketTokens--;
+        return true;
+    }
+
     private void consumeInputRock() {
         if (level.isClientSide) return;
 
@@ -274,13 +347,8 @@ public class RockKnappingMenu extends AbstractContainerMenu {
     private void updateResult() {
         if (level == null || knappingFinished || resultCollected) return;
 
-        RockKnappingRecipe matchingRecipe = recipeManager
-                .getAllRecipesFor(ModRecipeTypes.KNAPPING.get())
-                .stream()
-                .filter(recipe -> recipe.getIngredient().test(inputRock))
-                .filter(recipe -> recipe.matches(craftingGrid, level))
-                .findFirst()
-                .orElse(null);
+        RockKnappingRecipe matchingRecipe = KnappingRecipeTable.get(recipeManager)
+                .find(inputRock, RockKnappingRecipe.gridMask(craftingGrid));
 
         if (matchingRecipe != null) {
             resultContainer.setItem(0,
@@ -319,6 +387,13 @@ public class RockKnappingMenu extends AbstractContainerMenu {
         return false;
     }
 
+    @Override
+    public void clicked(int slotId, int button, ClickType clickType, Player player) {
+        // Chips the client made before this click have to land before the result is taken
+        flushPendingChips();
+        super.clicked(slotId, button, clickType, player);
+    }
+
     @Override
     public void removed(Player player) {
         super.removed(player);
@@ -326,6 +401,11 @@ public class RockKnappingMenu extends AbstractContainerMenu {
             return;
         }
         if (!player.level().isClientSide) {
+            flushPendingChips();
+            if (chipFlush != null) {
+                chipFlush.cancel();
+                chipFlush = null;
+            }
             ItemStack result = resultContainer.getItem(0);
             if (!result.isEmpty() && !resultCollected) {
                 if (player instanceof ServerPlayer serverPlayer) {
@@ -9,6 +9,8 @@ import net.minecraft.client.sounds.SoundManager;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.ClickType;
+import net.minecraft.world.inventory.Slot;
 import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.networking.ModMessages;
 import net.stirdrem.overgeared.networking.packet.KnappingChipC2SPacket;
@@ -27,6 +29,8 @@ public class RockKnappingScreen extends AbstractContainerScreen<RockKnappingMenu
     private static final int SLOT_SIZE = 16;
 
     private final Set<Integer> chippedSpots = new HashSet<>();
+    // Spots toggled since the last chip packet, sent once per tick
+    private int pendingChips = 0;
 
     public RockKnappingScreen(RockKnappingMenu menu, Inventory playerInventory, Component title) {
         super(menu, playerInventory, title);
@@ -50,6 +54,7 @@ public class RockKnappingScreen extends AbstractContainerScreen<RockKnappingMenu
     @Override
     protected void containerTick() {
         super.containerTick();
+        flushChips();
         if (!menu.isKnappingFinished()) {
             // Recipe just finished - update buttons
             addKnappingButtons();
@@ -93,7 +98,7 @@ public class RockKnappingScreen extends AbstractContainerScreen<RockKnappingMenu
                             menu.setChip(index);
                             chippedSpots.add(index);
                             if (!resultCollected) {
-                                ModMessages.sendToServer(new KnappingChipC2SPacket(index));
+                                pendingChips ^= 1 << index;
 
                                 minecraft.player.playSound(menu.getSound(), 1.0F, 1.0F);
                             }
@@ -123,6 +128,26 @@ public class RockKnappingScreen extends AbstractContainerScreen<RockKnappingMenu
     }
 
 
+    private void flushChips() {
+        if (pendingChips == 0) return;
+
+        ModMessages.sendToServer(new KnappingChipC2SPacket(pendingChips));
+        pendingChips = 0;
+    }
+
+    // Chips still waiting for the tick have to reach the server before a slot click or the close
+    @Override
+    protected void slotClicked(Slot slot, int slotId, int mouseButton, ClickType type) {
+        flushChips();
+        super.slotClicked(slot, slotId, mouseButton, type);
+    }
+
+    @Override
+    public void onClose() {
+        flushChips();
+        super.onClose();
+    }
+
     @Override
     public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
         renderBackground(guiGraphics);
@@ -169,7 +194,7 @@ public class RockKnappingScreen extends AbstractContainerScreen<RockKnappingMenu
                 menu.setChip(i);
                 chippedSpots.add(i);
                 if (!menu.isResultCollected()) {
-                    ModMessages.sendToServer(new KnappingChipC2SPacket(i));
+                    pendingChips ^= 1 << i;
                     minecraft.player.playSound(net.minecraft.sounds.SoundEvents.STONE_BREAK, 1.0F, 1.0F);
                 }
 
@@ -1,6 +1,5 @@
 package net.stirdrem.overgeared.util;
 
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
@@ -14,7 +13,6 @@ import net.stirdrem.overgeared.recipe.ModRecipeTypes;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public class ConfigHelper {
 
@@ -81,25 +79,8 @@ public class ConfigHelper {
     }
 
     public static String getMaterialForItem(Item item) {
-        // First check datapack entries
-        Optional<MaterialSettingsReloadListener.MaterialEntry> datapackEntry =
-                MaterialSettingsReloadListener.getAllMaterialEntries().stream()
-                        .filter(entry -> matchesItemOrTag(item, entry.getItemOrTag()))
-                        .findFirst();
-
-        if (datapackEntry.isPresent()) {
-            return datapackEntry.get().getMaterialId();
-        }
-
-        // Fallback to config for backward compatibility
-        for (var e : ServerConfig.MATERIAL_SETTING.get()) {
-            List<?> row = (List<?>) e;
-            String key = (String) row.get(0);
-            if (matchesItemOrTag(item, key)) {
-                return (String) row.get(1);
-            }
-        }
-        return "none";
+        MaterialTable.Material material = MaterialTable.get().lookup(item);
+        return material == null ? "none" : material.material();
     }
 
     /**
@@ -110,25 +91,8 @@ public class ConfigHelper {
     }
 
     public static int getMaterialValue(Item item) {
-        // First check datapack entries
-        Optional<MaterialSettingsReloadListener.MaterialEntry> datapackEntry =
-                MaterialSettingsReloadListener.getAllMaterialEntries().stream()
-                        .filter(entry -> matchesItemOrTag(item, entry.getItemOrTag()))
-                        .findFirst();
-
-        if (datapackEntry.isPresent()) {
-            return datapackEntry.get().getMaterialValue();
-        }
-
-        // Fallback to config for backward compatibility
-        for (var e : ServerConfig.MATERIAL_SETTING.get()) {
-            List<?> row = (List<?>) e;
-            String key = (String) row.get(0);
-            if (matchesItemOrTag(item, key)) {
-                return ((Number) row.get(2)).intValue();
-            }
-        }
-        return 0;
+        MaterialTable.Material material = MaterialTable.get().lookup(item);
+        return material == null ? 0 : material.value();
     }
 
     /**
@@ -139,93 +103,20 @@ public class ConfigHelper {
     }
 
     public static boolean isValidMaterial(Item item) {
-        // First check datapack entries
-        boolean isValidInDatapack = MaterialSettingsReloadListener.getAllMaterialEntries().stream()
-                .anyMatch(entry -> matchesItemOrTag(item, entry.getItemOrTag()));
-
-        if (isValidInDatapack) {
-            return true;
-        }
-
-        // Fallback to config for backward compatibility
-        for (var e : ServerConfig.MATERIAL_SETTING.get()) {
-            List<?> row = (List<?>) e;
-            String key = (String) row.get(0);
-            if (matchesItemOrTag(item, key)) {
-                return true;
-            }
-        }
-        return false;
+        return MaterialTable.get().lookup(item) != null;
     }
 
     /**
-     * Get all material values for an item (useful when an item belongs to multiple materials)
+     * Get all material values for an item (useful when an item belongs to multiple materials).
+     * The returned map is shared and read-only.
      */
     public static java.util.Map<String, Integer> getMaterialValuesForItem(ItemStack stack) {
         return getMaterialValuesForItem(stack.getItem());
     }
 
     public static java.util.Map<String, Integer> getMaterialValuesForItem(Item item) {
-        java.util.Map<String, Integer> result = new java.util.HashMap<>();
-
-        // Add datapack entries
-        MaterialSettingsReloadListener.getAllMaterialEntries().stream()
-                .filter(entry -> matchesItemOrTag(item, entry.getItemOrTag()))
-                .forEach(entry -> result.put(entry.getMaterialId(), entry.getMaterialValue()));
-
-        // Add config entries (will override datapack if same material ID)
-        for (var e : ServerConfig.MATERIAL_SETTING.get()) {
-            List<?> row = (List<?>) e;
-            String key = (String) row.get(0);
-            if (matchesItemOrTag(item, key)) {
-                String materialId = (String) row.get(1);
-                int value = ((Number) row.get(2)).intValue();
-                result.put(materialId, value);
-            }
-        }
-
-        return result;
-    }
-
-    /**
-     * Helper: matches an item against an item ID or tag key
-     */
-    private static boolean matchesItemOrTag(Item item, String key) {
-
-        // Direct item match
-        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
-        if (itemId != null && itemId.toString().equals(key)) {
-            return true;
-        }
-
-        // Tag match
-        if (key.startsWith("#")) {
-            ResourceLocation tagId = new ResourceLocation(key.substring(1));
-
-            // ---- Item tag check ----
-            TagKey<Item> itemTag = TagKey.create(
-                    ForgeRegistries.ITEMS.getRegistryKey(),
-                    tagId
-            );
-            if (item.builtInRegistryHolder().is(itemTag)) {
-                return true;
-            }
-
-            // ---- Block tag check (for BlockItems) ----
-            if (item instanceof net.minecraft.world.item.BlockItem blockItem) {
-                TagKey<net.minecraft.world.level.block.Block> blockTag =
-                        TagKey.create(
-                                ForgeRegistries.BLOCKS.getRegistryKey(),
-                                tagId
-                        );
-
-                return blockItem.getBlock()
-                        .builtInRegistryHolder()
-                        .is(blockTag);
-            }
-        }
-
-        return false;
+        MaterialTable.Material material = MaterialTable.get().lookup(item);
+        return material == null ? Map.of() : material.values();
     }
 
 
@@ -0,0 +1,120 @@
+package net.stirdrem.overgeared.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.stirdrem.overgeared.config.ServerConfig;
+
+import java.util.*;
+
+/**
+ * Item/tag blacklist compiled into an identity item set and a set of tag keys, so that
+ * lookups don't parse ids or walk ingredients. Tags are kept as keys and resolved by
+ * {@link ItemStack#is(TagKey)}, which stays correct across tag reloads.
+ */
+public class ItemBlacklist {
+    public static final ItemBlacklist EMPTY = new ItemBlacklist();
+
+    // Config lists are compiled on first use, item ids can't be resolved while the config loads
+    private static volatile ItemBlacklist durabilityConfig;
+    private static volatile ItemBlacklist grindingConfig;
+
+    private final Set<Item> items = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<TagKey<Item>> tags = new HashSet<>();
+    // Custom ingredient types that can't be split into items and tags
+    private final List<Ingredient> ingredients = new ArrayList<>();
+
+    public static ItemBlacklist durabilityConfig() {
+        ItemBlacklist blacklist = durabilityConfig;
+        if (blacklist == null) {
+            blacklist = fromConfig(ServerConfig.BASE_DURABILITY_BLACKLIST.get());
+            durabilityConfig = blacklist;
+        }
+        return blacklist;
+    }
+
+    public static ItemBlacklist grindingConfig() {
+        ItemBlacklist blacklist = grindingConfig;
+        if (blacklist == null) {
+            blacklist = fromConfig(ServerConfig.GRINDING_BLACKLIST.get());
+            grindingConfig = blacklist;
+        }
+        return blacklist;
+    }
+
+    public static void invalidateConfig() {
+        durabilityConfig = null;
+        grindingConfig = null;
+    }
+
+    /**
+     * Compiles config entries, either item ids or tags prefixed with '#'.
+     */
+    public static ItemBlacklist fromConfig(List<? extends String> entries) {
+        ItemBlacklist blacklist = new ItemBlacklist();
+        for (String entry : entries) {
+            if (entry.startsWith("#")) {
+                ResourceLocation tagId = ResourceLocation.tryParse(entry.substring(1));
+                if (tagId != null) blacklist.tags.add(TagKey.create(Registries.ITEM, tagId));
+            } else {
+                blacklist.addItem(ResourceLocation.tryParse(entry));
+            }
+        }
+        return blacklist;
+    }
+
+    /**
+     * Compiles datapack entries, each holding an ingredient in the vanilla JSON format.
+     */
+    public static ItemBlacklist fromIngredients(Collection<JsonElement> entries) {
+        ItemBlacklist blacklist = new ItemBlacklist();
+        for (JsonElement entry : entries) {
+            blacklist.addIngredient(entry);
+        }
+        return blacklist;
+    }
+
+    private void addIngredient(JsonElement json) {
+        if (json.isJsonArray()) {
+            for (JsonElement element : json.getAsJsonArray()) {
+                addIngredient(element);
+            }
+            return;
+        }
+
+        JsonObject object = json.getAsJsonObject();
+        if (object.has("type")) {
+            ingredients.add(Ingredient.fromJson(json));
+        } else if (object.has("tag")) {
+            tags.add(TagKey.create(Registries.ITEM, new ResourceLocation(GsonHelper.getAsString(object, "tag"))));
+        } else {
+            addItem(new ResourceLocation(GsonHelper.getAsString(object, "item")));
+        }
+    }
+
+    private void addItem(ResourceLocation itemId) {
+        if (itemId != null && ForgeRegistries.ITEMS.containsKey(itemId)) {
+            items.add(ForgeRegistries.ITEMS.getValue(itemId));
+        }
+    }
+
+    public boolean contains(ItemStack stack) {
+        if (stack.isEmpty()) return false;
+        if (items.contains(stack.getItem())) return true;
+
+        for (TagKey<Item> tag : tags) {
+            if (stack.is(tag)) return true;
+        }
+        for (Ingredient ingredient : ingredients) {
+            if (ingredient.test(stack)) return true;
+        }
+        return false;
+    }
+}
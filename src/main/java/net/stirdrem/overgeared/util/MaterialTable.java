@@ -0,0 +1,117 @@
+package net.stirdrem.overgeared.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.stirdrem.overgeared.config.ServerConfig;
+import net.stirdrem.overgeared.datapack.MaterialSettingsReloadListener;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Casting materials resolved per item: datapack entries first, then the config rows, with
+ * tag entries expanded into their items. Built on first use and swapped out as a whole
+ * when the datapack, the tags or the config reload.
+ */
+public class MaterialTable {
+    private static volatile MaterialTable current;
+
+    private final Map<Item, Material> byItem;
+
+    /**
+     * @param material first matching material, the one used for single-material lookups
+     * @param value    value of that first material
+     * @param values   every material the item counts as, config rows override datapack ones
+     */
+    public record Material(String material, int value, Map<String, Integer> values) {
+    }
+
+    private MaterialTable(Map<Item, Material> byItem) {
+        this.byItem = byItem;
+    }
+
+    public static MaterialTable get() {
+        MaterialTable table = current;
+        if (table == null) {
+            table = build();
+            current = table;
+        }
+        return table;
+    }
+
+    public static void invalidate() {
+        current = null;
+    }
+
+    @Nullable
+    public Material lookup(Item item) {
+        return byItem.get(item);
+    }
+
+    private static MaterialTable build() {
+        Map<Item, String> firstMaterial = new IdentityHashMap<>();
+        Map<Item, Integer> firstValue = new IdentityHashMap<>();
+        Map<Item, Map<String, Integer>> values = new IdentityHashMap<>();
+
+        MaterialRow add = (key, materialId, value) -> forEachItem(key, item -> {
+            if (!firstMaterial.containsKey(item)) {
+                firstMaterial.put(item, materialId);
+                firstValue.put(item, value);
+            }
+            values.computeIfAbsent(item, i -> new HashMap<>()).put(materialId, value);
+        });
+
+        for (MaterialSettingsReloadListener.MaterialEntry entry : MaterialSettingsReloadListener.getAllMaterialEntries()) {
+            add.accept(entry.getItemOrTag(), entry.getMaterialId(), entry.getMaterialValue());
+        }
+        for (var e : ServerConfig.MATERIAL_SETTING.get()) {
+            List<?> row = (List<?>) e;
+            add.accept((String) row.get(0), (String) row.get(1), ((Number) row.get(2)).intValue());
+        }
+
+        Map<Item, Material> byItem = new IdentityHashMap<>();
+        for (Map.Entry<Item, String> entry : firstMaterial.entrySet()) {
+            Item item = entry.getKey();
+            byItem.put(item, new Material(entry.getValue(), firstValue.get(item), Map.copyOf(values.get(item))));
+        }
+        return new MaterialTable(byItem);
+    }
+
+    /**
+     * Expands an item id, or a '#' item/block tag, the same way the per-item matching did.
+     */
+    private static void forEachItem(String key, Consumer<Item> action) {
+        if (key.startsWith("#")) {
+            ResourceLocation tagId = ResourceLocation.tryParse(key.substring(1));
+            if (tagId == null) return;
+
+            for (Holder<Item> holder : BuiltInRegistries.ITEM.getTagOrEmpty(TagKey.create(Registries.ITEM, tagId))) {
+                action.accept(holder.value());
+            }
+            for (Holder<Block> holder : BuiltInRegistries.BLOCK.getTagOrEmpty(TagKey.create(Registries.BLOCK, tagId))) {
+                Item item = holder.value().asItem();
+                if (item != Items.AIR) action.accept(item);
+            }
+            return;
+        }
+
+        ResourceLocation itemId = ResourceLocation.tryParse(key);
+        // Keys have to spell out the full id, "iron_ingot" never matched minecraft:iron_ingot
+        if (itemId == null || !itemId.toString().equals(key)) return;
+
+        Item item = BuiltInRegistries.ITEM.get(itemId);
+        if (item != Items.AIR) action.accept(item);
+    }
+
+    @FunctionalInterface
+    private interface MaterialRow {
+        void accept(String itemOrTag, String materialId, int value);
+    }
+}
@@ -0,0 +1,186 @@
+package net.stirdrem.overgeared.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.stirdrem.overgeared.OvergearedMod;
+import net.stirdrem.overgeared.config.ServerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-side timings per subsystem and a few event counters, shown by /overgeared perf
+ * and optionally logged. Also keeps the optional per-tick budget: once Overgeared's timed
+ * work in the current tick goes over it, {@link #shouldDefer()} tells periodic heat and
+ * cooling checks to wait for a later tick. After {@link #MAX_DEFERRED_TICKS} ticks in a row
+ * that deferred something, one tick runs every check regardless of the budget, so load that
+ * can't be deferred never starves the checks that can.
+ */
+@Mod.EventBusSubscriber(modid = OvergearedMod.MOD_ID)
+public class OvergearedPerf {
+    public enum Subsystem {
+        ANVILS("anvils"),
+        ALLOY_SMELTERS("alloy smelters"),
+        NETHER_ALLOY_SMELTERS("nether alloy smelters"),
+        CAST_FURNACES("cast furnaces"),
+        HEAT_EXPIRY("heat expiry"),
+        ANVIL_DISTANCE("anvil distance"),
+        PLAYER_HEAT("player heat"),
+        DROPPED_ITEMS("dropped heated items");
+
+        private final String label;
+
+        Subsystem(String label) {
+            this.label = label;
+        }
+    }
+
+    public enum Counter {
+        RECIPE_LOOKUPS("recipe lookups"),
+        CACHE_HITS("recipe cache hits"),
+        COOLING_CONVERSIONS("cooling conversions"),
+        PACKETS_SENT("packets sent"),
+        DEFERRED("deferred checks"),
+        CATCH_UP_TICKS("catch-up ticks");
+
+        private final String label;
+
+        Counter(String label) {
+            this.label = label;
+        }
+    }
+
+    // Timings are only written on the server thread, counters may also be bumped from network threads
+    private static final long[] nanos = new long[Subsystem.values().length];
+    private static final long[] calls = new long[Subsystem.values().length];
+    private static final LongAdder[] counters = new LongAdder[Counter.values().length];
+
+    private static long ticks = 0;
+    private static long tickNanos = 0;
+    private static long budgetNanos = 0;
+    private static int logIntervalTicks = 0;
+
+    private static final int MAX_DEFERRED_TICKS = 20;
+    private static boolean deferredThisTick = false;
+    private static int deferredStreak = 0;
+    private static boolean catchUpTick = false;
+
+    static {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Reads the budget and the log interval out of the server config. Called whenever it loads.
+     */
+    public static void loadConfig() {
+        budgetNanos = ServerConfig.TICK_BUDGET_MICROS.get() * 1_000L;
+        logIntervalTicks = ServerConfig.PERF_LOG_INTERVAL_SECONDS.get() * 20;
+    }
+
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    public static void stop(Subsystem subsystem, long start) {
+        long elapsed = System.nanoTime() - start;
+        nanos[subsystem.ordinal()] += elapsed;
+        calls[subsystem.ordinal()]++;
+        tickNanos += elapsed;
+    }
+
+    public static void count(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    /**
+     * Wraps a block entity ticker so each call is timed under the given subsystem.
+     */
+    public static <T extends BlockEntity> BlockEntityTicker<T> timed(Subsystem subsystem, BlockEntityTicker<T> ticker) {
+        return (Level level, BlockPos pos, BlockState state, T blockEntity) -> {
+            long start = start();
+            try {
+                ticker.tick(level, pos, state, blockEntity);
+            } finally {
+                stop(subsystem, start);
+            }
+        };
+    }
+
+    /**
+     * True once this tick's timed work went over the configured budget. Each call that
+     * returns true counts as one deferred check, so callers should skip their work then.
+     */
+    public static boolean shouldDefer() {
+        if (budgetNanos <= 0 || catchUpTick || tickNanos < budgetNanos) return false;
+        deferredThisTick = true;
+        count(Counter.DEFERRED);
+        return true;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            tickNanos = 0;
+            deferredStreak = deferredThisTick ? deferredStreak + 1 : 0;
+            deferredThisTick = false;
+            catchUpTick = deferredStreak >= MAX_DEFERRED_TICKS;
+            if (catchUpTick) {
+                deferredStreak = 0;
+                count(Counter.CATCH_UP_TICKS);
+            }
+            return;
+        }
+
+        ticks++;
+        if (logIntervalTicks > 0 && ticks % logIntervalTicks == 0) {
+            OvergearedMod.LOGGER.info("Overgeared perf: {}", String.join(", ", summary()));
+        }
+    }
+
+    public static void reset() {
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = 0;
+            calls[i] = 0;
+        }
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        ticks = 0;
+    }
+
+    /**
+     * One line per subsystem that ran and per counter that isn't zero, averaged over the
+     * ticks since the last reset.
+     */
+    public static List<String> summary() {
+        List<String> lines = new ArrayList<>();
+        long tickCount = Math.max(ticks, 1);
+
+        lines.add(String.format(Locale.ROOT, "%d ticks", ticks));
+        for (Subsystem subsystem : Subsystem.values()) {
+            long callCount = calls[subsystem.ordinal()];
+            if (callCount == 0) continue;
+
+            long total = nanos[subsystem.ordinal()];
+            lines.add(String.format(Locale.ROOT, "%s %.1f us/tick (%d calls, %.2f us/call)",
+                    subsystem.label, total / 1_000.0 / tickCount, callCount, total / 1_000.0 / callCount));
+        }
+        for (Counter counter : Counter.values()) {
+            long value = counters[counter.ordinal()].sum();
+            if (value == 0) continue;
+
+            lines.add(String.format(Locale.ROOT, "%s %d", counter.label, value));
+        }
+        return lines;
+    }
+}
@@ -1,22 +1,116 @@
 package net.stirdrem.overgeared.util;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
+import net.stirdrem.overgeared.ForgingQuality;
+import net.stirdrem.overgeared.OvergearedMod;
 import net.stirdrem.overgeared.config.ServerConfig;
 
+import java.util.Arrays;
+import java.util.function.Function;
+
 public class QualityHelper {
+    // Neutral until the server config loads, swapped as a whole on every load
+    private static volatile QualityValues values = QualityValues.NEUTRAL;
+
+    /**
+     * Reads the per-quality bonuses out of the server config. Called whenever it loads.
+     */
+    public static void loadConfig() {
+        values = new QualityValues(
+                perQuality(q -> switch (q) {
+                    case POOR -> ServerConfig.POOR_DURABILITY_BONUS.get();  // 30% worse
+                    case WELL -> ServerConfig.WELL_DURABILITY_BONUS.get();  // 10% better
+                    case EXPERT -> ServerConfig.EXPERT_DURABILITY_BONUS.get(); // 30% better
+                    case PERFECT -> ServerConfig.PERFECT_DURABILITY_BONUS.get(); // 50% better
+                    case MASTER -> ServerConfig.MASTER_DURABILITY_BONUS.get(); // 50% better
+                    case NONE -> 1.0;
+                }),
+                perQuality(q -> switch (q) {
+                    case POOR -> ServerConfig.POOR_WEAPON_DAMAGE.get();
+                    case WELL -> ServerConfig.WELL_WEAPON_DAMAGE.get();
+                    case EXPERT -> ServerConfig.EXPERT_WEAPON_DAMAGE.get();
+                    case PERFECT -> ServerConfig.PERFECT_WEAPON_DAMAGE.get();
+                    case MASTER -> ServerConfig.MASTER_WEAPON_DAMAGE.get();
+                    case NONE -> 0.0;
+                }),
+                perQuality(q -> switch (q) {
+                    case POOR -> ServerConfig.POOR_WEAPON_SPEED.get();
+                    case WELL -> ServerConfig.WELL_WEAPON_SPEED.get();
+                    case EXPERT -> ServerConfig.EXPERT_WEAPON_SPEED.get();
+                    case PERFECT -> ServerConfig.PERFECT_WEAPON_SPEED.get();
+                    case MASTER -> ServerConfig.MASTER_WEAPON_SPEED.get();
+                    case NONE -> 0.0;
+                }),
+                perQuality(q -> switch (q) {
+                    case POOR -> ServerConfig.POOR_ARMOR_BONUS.get();
+                    case WELL -> ServerConfig.WELL_ARMOR_BONUS.get();
+                    case EXPERT -> ServerConfig.EXPERT_ARMOR_BONUS.get();
+                    case PERFECT -> ServerConfig.PERFECT_ARMOR_BONUS.get();
+                    case MASTER -> ServerConfig.MASTER_ARMOR_BONUS.get();
+                    case NONE -> 0.0;
+                }),
+                ServerConfig.BASE_DURABILITY_MULTIPLIER.get().floatValue(),
+                ServerConfig.DURABILITY_REDUCE_PER_GRIND.get().floatValue());
+    }
+
+    private static double[] perQuality(Function<ForgingQuality, Double> value) {
+        ForgingQuality[] qualities = ForgingQuality.values();
+        double[] result = new double[qualities.length];
+        for (ForgingQuality quality : qualities) {
+            result[quality.ordinal()] = value.apply(quality);
+        }
+        return result;
+    }
+
     public static float getQualityMultiplier(ItemStack stack) {
-        if (stack.hasTag() && stack.getTag().contains("ForgingQuality")) {
-            String quality = stack.getTag().getString("ForgingQuality");
-            return switch (quality) {
-                case "poor" -> ServerConfig.POOR_DURABILITY_BONUS.get().floatValue();  // 30% worse
-                case "well" -> ServerConfig.WELL_DURABILITY_BONUS.get().floatValue();  // 10% better
-                case "expert" -> ServerConfig.EXPERT_DURABILITY_BONUS.get().floatValue(); // 30% better
-                case "perfect" -> ServerConfig.PERFECT_DURABILITY_BONUS.get().floatValue(); // 50% better
-                case "master" -> ServerConfig.MASTER_DURABILITY_BONUS.get().floatValue(); // 50% better
-                default -> 1.0f;
-            };
+        return getQualityMultiplier(ForgingQuality.of(stack));
+    }
+
+    public static float getQualityMultiplier(ForgingQuality quality) {
+        return (float) values.durability()[quality.ordinal()];
+    }
+
+    public static double getWeaponDamageBonus(ForgingQuality quality) {
+        return values.weaponDamage()[quality.ordinal()];
+    }
+
+    public static double getWeaponSpeedBonus(ForgingQuality quality) {
+        return values.weaponSpeed()[quality.ordinal()];
+    }
+
+    public static double getArmorBonus(ForgingQuality quality) {
+        return values.armor()[quality.ordinal()];
+    }
+
+    /**
+     * Max durability after the base multiplier, forging quality and grinding reductions.
+     * Backs the ItemStack#getMaxDamage mixin.
+     */
+    public static int getModifiedMaxDamage(ItemStack stack, int originalDurability) {
+        QualityValues current = values;
+        boolean blacklisted = OvergearedMod.isDurabilityBlacklisted(stack);
+
+        int newBaseDurability = blacklisted ? originalDurability : (int) (originalDurability * current.baseDurability());
+
+        CompoundTag tag = stack.getTag();
+        if (tag == null) return newBaseDurability;
+
+        // Apply quality multiplier
+        ForgingQuality quality = ForgingQuality.of(stack);
+        if (quality != ForgingQuality.NONE) {
+            newBaseDurability = (int) (newBaseDurability * (float) current.durability()[quality.ordinal()]);
         }
-        return 1.0f;
+
+        // Apply durability reductions
+        if (tag.contains("ReducedMaxDurability")) {
+            int reductions = tag.getInt("ReducedMaxDurability");
+            float durabilityPenaltyMultiplier = 1.0f - (reductions * current.reducePerGrind());
+            durabilityPenaltyMultiplier = Math.max(0.1f, durabilityPenaltyMultiplier);
+            newBaseDurability = (int) (newBaseDurability * durabilityPenaltyMultiplier);
+        }
+
+        return newBaseDurability;
     }
 
     private static boolean calculatingAttributes = false;
@@ -28,4 +122,19 @@ public class QualityHelper {
     public static void setCalculatingAttributes(boolean state) {
         calculatingAttributes = state;
     }
+
+    /**
+     * Config values indexed by ForgingQuality ordinal.
+     */
+    private record QualityValues(double[] durability, double[] weaponDamage, double[] weaponSpeed, double[] armor,
+                                 float baseDurability, float reducePerGrind) {
+        static final QualityValues NEUTRAL = new QualityValues(
+                filled(1.0), filled(0.0), filled(0.0), filled(0.0), 1.0f, 0.0f);
+
+        private static double[] filled(double value) {
+            double[] result = new double[ForgingQuality.values().length];
+            Arrays.fill(result, value);
+            return result;
+        }
+    }
 }
@@ -1,60 +1,191 @@
 package net.stirdrem.overgeared.util;
 
+import net.minecraft.world.level.Level;
 import net.minecraftforge.event.TickEvent;
-import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.stirdrem.overgeared.OvergearedMod;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Delayed actions run at the end of a tick, one scheduler per logical side. Pending tasks sit
+ * in a heap ordered by target tick, so a tick only touches the tasks that are due. Tasks can
+ * be submitted from any thread (network handlers included) and are picked up on the next tick
+ * of their side. A task scoped to a level is dropped when that level unloads.
+ */
 public class TickScheduler {
-    // An entry that holds an action and delay counter
-    private static class ScheduledTask {
-        int remainingTicks;
-        Runnable action;
+    private static final TickScheduler SERVER = new TickScheduler();
+    private static final TickScheduler CLIENT = new TickScheduler();
 
-        ScheduledTask(int delayTicks, Runnable action) {
-            this.remainingTicks = delayTicks;
-            this.action = action;
-        }
+    private final PriorityQueue<Task> pending = new PriorityQueue<>(
+            Comparator.comparingLong((Task task) -> task.targetTick).thenComparingLong(task -> task.sequence));
+    // Filled from any thread, drained into the heap on the tick thread
+    private final Queue<Task> submitted = new ConcurrentLinkedQueue<>();
+    // The tick being run, or the last one that ran while between ticks
+    private volatile long currentTick = 0;
+    private long sequence = 0;
+
+    private TickScheduler() {
     }
 
-    private static final Queue<ScheduledTask> taskQueue = new LinkedList<>();
+    public static TickScheduler get(Level level) {
+        return get(level.isClientSide());
+    }
 
-    // Call this from anywhere to schedule a delayed action
-    public static void schedule(int delayTicks, Runnable action) {
-        if (action != null && delayTicks >= 0) {
-            taskQueue.add(new ScheduledTask(delayTicks, action));
-        }
+    public static TickScheduler get(boolean clientSide) {
+        return clientSide ? CLIENT : SERVER;
     }
 
-    // Call this to clear all pending tasks (optional utility)
-    public static void clear() {
-        taskQueue.clear();
+    /**
+     * Runs {@code action} at the end of the tick {@code delayTicks} ticks from now. With 0 it
+     * runs at the end of the tick in progress, or of the next one when called between ticks.
+     */
+    public Task schedule(int delayTicks, Runnable action) {
+        return submit(new Task(currentTick + Math.max(delayTicks, 0), 0, null, action));
     }
 
-    @SubscribeEvent
-    public static void onClientTick(TickEvent.ClientTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) return;
+    /**
+     * Like {@link #schedule(int, Runnable)}, but dropped if the level unloads first.
+     */
+    public Task schedule(Level level, int delayTicks, Runnable action) {
+        return submit(new Task(currentTick + Math.max(delayTicks, 0), 0, level, action));
+    }
+
+    /**
+     * Runs {@code action} every {@code intervalTicks} ticks, starting one interval from now,
+     * until the returned task is cancelled.
+     */
+    public Task repeat(int intervalTicks, Runnable action) {
+        int interval = Math.max(intervalTicks, 1);
+        return submit(new Task(currentTick + interval, interval, null, action));
+    }
+
+    private Task submit(Task task) {
+        submitted.add(task);
+        return task;
+    }
+
+    /**
+     * Cancels everything, scheduled and repeating alike.
+     */
+    public void clear() {
+        submitted.forEach(Task::cancel);
+        submitted.clear();
+        pending.forEach(Task::cancel);
+        pending.clear();
+    }
 
-        int size = taskQueue.size();
-        for (int i = 0; i < size; i++) {
-            ScheduledTask task = taskQueue.poll();
-            if (task == null) continue;
+    private void tick() {
+        currentTick++;
+        drainSubmitted();
 
-            task.remainingTicks--;
+        while (!pending.isEmpty() && pending.peek().targetTick <= currentTick) {
+            Task task = pending.poll();
+            if (task.cancelled) continue;
 
-            if (task.remainingTicks <= 0) {
-                try {
-                    task.action.run(); // Run the task
-                } catch (Exception e) {
-                    e.printStackTrace(); // Debug if needed
-                }
+            try {
+                task.action.run();
+            } catch (Exception e) {
+                OvergearedMod.LOGGER.error("Scheduled task failed", e);
+            }
+
+            if (task.interval > 0 && !task.cancelled) {
+                task.targetTick = currentTick + task.interval;
+                task.sequence = sequence++;
+                pending.add(task);
             } else {
-                taskQueue.add(task); // Reschedule for later
+                task.done = true;
             }
+            // Tasks scheduled with no delay by the task above still run this tick
+            drainSubmitted();
+        }
+    }
+
+    private void drainSubmitted() {
+        Task task;
+        while ((task = submitted.poll()) != null) {
+            if (task.cancelled) continue;
+            task.sequence = sequence++;
+            pending.add(task);
+        }
+    }
+
+    private void unloadLevel(Level level) {
+        pending.removeIf(task -> {
+            if (task.level != level) return false;
+            task.cancel();
+            return true;
+        });
+        // Submitted tasks for that level are skipped when drained
+        submitted.forEach(task -> {
+            if (task.level == level) task.cancel();
+        });
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) SERVER.tick();
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) CLIENT.tick();
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            get(level).unloadLevel(level);
         }
     }
 
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SERVER.clear();
+    }
+
+    /**
+     * Handle to a scheduled action.
+     */
+    public static final class Task {
+        private final int interval;
+        @Nullable
+        private final Level level;
+        private final Runnable action;
+        private long targetTick;
+        private long sequence;
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+
+        private Task(long targetTick, int interval, @Nullable Level level, Runnable action) {
+            this.targetTick = targetTick;
+            this.interval = interval;
+            this.level = level;
+            this.action = action;
+        }
 
+        /**
+         * Keeps the action from running again, safe to call from any thread.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * True once a one-shot task ran.
+         */
+        public boolean isDone() {
+            return done;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package net.stirdrem.overgeared.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel keyed by absolute tick. Three levels of 64 slots cover the
+ * next 64, 4096 and 262144 ticks; later entries wait in an overflow list. Entries move
+ * down a level whenever the level below wraps around, so each one is touched at most
+ * once per level. Targets are held weakly, a collected target is simply dropped.
+ * Not thread safe, meant to be driven from a single tick loop.
+ */
+public class TimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private final List<List<Entry<T>>> wheels = new ArrayList<>();
+    private List<Entry<T>> overflow = new ArrayList<>();
+    private List<Entry<T>> spare = new ArrayList<>();
+    // Last tick that was fired
+    private long currentTick;
+
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick - 1;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            wheels.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Fires {@code target} on {@code dueTick}, or on the next tick if that's already past.
+     */
+    public void schedule(long dueTick, T target) {
+        place(new Entry<>(Math.max(dueTick, currentTick + 1), new WeakReference<>(target)));
+    }
+
+    /**
+     * Fires everything due up to and including {@code now}, in tick order.
+     */
+    public void advance(long now, Consumer<T> action) {
+        while (currentTick < now) {
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & MASK);
+            List<Entry<T>> due = wheels.get(index);
+            if (due.isEmpty()) continue;
+
+            // Swap the slot out first, actions may schedule again
+            wheels.set(index, spare);
+            for (Entry<T> entry : due) {
+                T target = entry.target().get();
+                if (target != null) action.accept(target);
+            }
+            due.clear();
+            spare = due;
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.dueTick() - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                int slot = (int) ((entry.dueTick() >>> (BITS * level)) & MASK);
+                wheels.get(level * SLOTS + slot).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    // Moves entries down when a level wraps, top level first so they can fall through
+    private void cascade() {
+        if ((currentTick & MASK) != 0) return;
+
+        if ((currentTick & ((1L << (BITS * LEVELS)) - 1)) == 0 && !overflow.isEmpty()) {
+            List<Entry<T>> entries = overflow;
+            overflow = new ArrayList<>();
+            entries.forEach(this::place);
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) continue;
+
+            int index = level * SLOTS + (int) ((currentTick >>> (BITS * level)) & MASK);
+            List<Entry<T>> entries = wheels.get(index);
+            if (entries.isEmpty()) continue;
+
+            wheels.set(index, new ArrayList<>());
+            entries.forEach(this::place);
+        }
+    }
+
+    private record Entry<T>(long dueTick, WeakReference<T> target) {
+    }
+}